@@ -0,0 +1,107 @@
+package bench;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import main.CSP;
+import main.Cell;
+import main.PackedReader;
+import main.Reader;
+
+/**
+ * Benchmarks building the puzzle model: reading puzzle files, streaming or 
+ * mapping puzzles from a file of lines, streaming a packed file, and 
+ * constructing the CSP with its constraints and index.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ModelBench {
+    private Reader reader = new Reader();
+
+    /**
+     * Reads every puzzle file of the set.
+     * 
+     * @param set of puzzles.
+     * @param bh consumes the cells.
+     */
+    @Benchmark
+    public void readFile(PuzzleSet set, Blackhole bh) {
+        // Read every puzzle file.
+        for (String path : set.paths) {
+            bh.consume(this.reader.readFile(path));
+        }
+    }
+
+    /**
+     * Streams every puzzle of the set from a file of lines.
+     * 
+     * @param set of puzzles.
+     * @param bh consumes the puzzles.
+     */
+    @Benchmark
+    public void streamLines(PuzzleSet set, Blackhole bh) {
+        try (Stream<CSP> puzzles = this.reader.streamLines(set.lines.getPath())) {
+            puzzles.forEach(bh::consume);
+        }
+    }
+
+    /**
+     * Maps the file of lines and reads its slices in parallel.
+     * 
+     * @param set of puzzles.
+     * @param bh consumes the puzzles.
+     */
+    @Benchmark
+    public void mapLines(PuzzleSet set, Blackhole bh) {
+        this.reader.mapLines(set.lines.getPath(), 4).parallelStream()
+                .forEach(slice -> slice.forEach(bh::consume));
+    }
+
+    /**
+     * Streams every puzzle of the set from a packed file.
+     * 
+     * @param set of puzzles.
+     * @param bh consumes the puzzles.
+     * @throws IOException if the file can't be read.
+     */
+    @Benchmark
+    public void readPacked(PuzzleSet set, Blackhole bh) throws IOException {
+        try (PackedReader packed = new PackedReader(set.packed.getPath())) {
+            packed.stream().forEach(bh::consume);
+        }
+    }
+
+    /**
+     * Builds the CSP of every puzzle of the set.
+     * 
+     * @param set of puzzles.
+     * @param bh consumes the puzzles.
+     */
+    @Benchmark
+    public void createCsp(PuzzleSet set, Blackhole bh) {
+        // Build every puzzle.
+        for (ArrayList<Cell> cells : set.cells) {
+            bh.consume(new CSP("classic", "1", cells));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import main.AC2001;
+import main.AC3;
+import main.CSP;
+import main.Cell;
+
+/**
+ * Benchmarks the arc consistency engines. One operation runs on a fresh 
+ * copy of every puzzle in the set.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PropagationBench {
+    private AC3 ac3 = new AC3();
+    private AC2001 ac2001 = new AC2001();
+    private Cell[] arc = new Cell[2];
+
+    /**
+     * Runs AC-3 on the whole puzzle.
+     * 
+     * @param set of puzzles.
+     * @param bh consumes the results.
+     */
+    @Benchmark
+    public void ac3(PuzzleSet set, Blackhole bh) {
+        // Run on a copy of every puzzle.
+        for (CSP puzzle : set.puzzles) {
+            bh.consume(this.ac3.ac3(puzzle.copy()));
+        }
+    }
+
+    /**
+     * Runs AC-2001 on the whole puzzle, supports included.
+     * 
+     * @param set of puzzles.
+     * @param bh consumes the results.
+     */
+    @Benchmark
+    public void ac2001(PuzzleSet set, Blackhole bh) {
+        // Run on a copy of every puzzle.
+        for (CSP puzzle : set.puzzles) {
+            bh.consume(this.ac2001.ac3(puzzle.copy()));
+        }
+    }
+
+    /**
+     * Revises every arc of the puzzle once.
+     * 
+     * @param set of puzzles.
+     * @param bh consumes the results.
+     */
+    @Benchmark
+    public void revise(PuzzleSet set, Blackhole bh) {
+        // Revise a copy of every puzzle.
+        for (CSP puzzle : set.puzzles) {
+            CSP csp = puzzle.copy();
+
+            // Every arc from a peer to a cell.
+            for (int y = 0; y < csp.getCells().size(); y++) {
+                this.arc[1] = csp.getCellAt(y);
+
+                for (int x : csp.getPeers(y)) {
+                    this.arc[0] = csp.getCellAt(x);
+                    bh.consume(this.ac3.revise(this.arc));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import main.CSP;
+import main.Cell;
+import main.PackedWriter;
+import main.Reader;
+
+/**
+ * Loads a set of puzzles of one difficulty for the benchmarks. "easy" is the
+ * set of classic puzzles in data/puzzles, "hard" is the set in
+ * data/bench/hard. Puzzles are read once per trial, and benchmarks solve
+ * copies of them. The set is also written to a temporary file with one puzzle
+ * per line, and to a temporary packed file.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+@State(Scope.Benchmark)
+public class PuzzleSet {
+    @Param({"easy", "hard"})
+    public String difficulty;
+
+    public String[] paths;
+    public ArrayList<ArrayList<Cell>> cells;
+    public CSP[] puzzles;
+    public File lines;
+    public File packed;
+
+    /**
+     * Reads every puzzle of the set.
+     * 
+     * @throws IOException if the temporary files can't be written.
+     */
+    @Setup(Level.Trial)
+    public void load() throws IOException {
+        File dir = new File(dataDir(), difficulty.equals("easy") ? "puzzles" : "bench/hard");
+        File[] files = dir.listFiles((d, name) -> name.startsWith("classic") && name.endsWith(".txt"));
+        Reader reader = new Reader();
+
+        Arrays.sort(files);
+
+        this.paths = new String[files.length];
+        this.cells = new ArrayList<ArrayList<Cell>>();
+        this.puzzles = new CSP[files.length];
+
+        // Read every puzzle file.
+        for (int i = 0; i < files.length; i++) {
+            this.paths[i] = files[i].getPath();
+            this.cells.add(reader.readFile(this.paths[i]));
+            this.puzzles[i] = new CSP("classic", String.valueOf(i + 1), reader.readFile(this.paths[i]));
+        }
+
+        StringBuilder text = new StringBuilder();
+
+        // Write every puzzle on a line.
+        for (ArrayList<Cell> puzzle : this.cells) {
+            for (Cell cell : puzzle) {
+                text.append(cell.getVal());
+            }
+            text.append('\n');
+        }
+
+        this.lines = File.createTempFile("puzzles", ".txt");
+        Files.writeString(this.lines.toPath(), text);
+
+        this.packed = File.createTempFile("puzzles", ".pack");
+
+        // Pack every puzzle.
+        try (PackedWriter writer = new PackedWriter(this.packed.getPath(), 81, 9)) {
+            for (CSP puzzle : this.puzzles) {
+                writer.write(puzzle);
+            }
+        }
+    }
+
+    /**
+     * Deletes the temporary files.
+     */
+    @TearDown(Level.Trial)
+    public void delete() {
+        this.lines.delete();
+        this.packed.delete();
+    }
+
+    /**
+     * Finds the data folder, when run from the repository or from the bench 
+     * folder.
+     * 
+     * @return data folder.
+     */
+    private static File dataDir() {
+        File data = new File("data");
+
+        if (data.isDirectory()) {
+            return data;
+        }
+        return new File("../data");
+    }
+}
@@ -0,0 +1,76 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import main.CSP;
+import main.Solver;
+
+/**
+ * Benchmarks Solver.solve in every configuration. One operation solves a 
+ * fresh copy of every puzzle in the set.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SolverBench {
+    @Param({"plain", "ac3", "forward", "mrv", "alldiff", "dlx"})
+    public String mode;
+
+    /**
+     * Solves every puzzle of the set.
+     * 
+     * @param set of puzzles.
+     * @param bh consumes the solutions.
+     */
+    @Benchmark
+    public void solve(PuzzleSet set, Blackhole bh) {
+        boolean pre = mode.equals("ac3");
+        boolean forward = mode.equals("forward") || mode.equals("mrv") || mode.equals("alldiff");
+
+        // Solve a copy of every puzzle with a new solver.
+        for (CSP puzzle : set.puzzles) {
+            Solver solver = this.createSolver();
+
+            bh.consume(solver.solve(puzzle.copy(), pre, forward));
+        }
+    }
+
+    /**
+     * Creates a solver for the benchmarked configuration.
+     * 
+     * @return configured solver.
+     */
+    private Solver createSolver() {
+        Solver solver = new Solver();
+
+        // Heuristics and backend of the configuration.
+        if (mode.equals("mrv") || mode.equals("alldiff")) {
+            solver.setMrv(true);
+        }
+        if (mode.equals("alldiff")) {
+            solver.setAllDiff(true);
+        }
+        if (mode.equals("dlx")) {
+            solver.setBackend(Solver.Backend.DLX);
+        }
+        return solver;
+    }
+}
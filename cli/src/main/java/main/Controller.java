@@ -0,0 +1,782 @@
+package main;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Contains the main() function that drives the execution of the program.
+ * It reads the file with puzzles, solves them using three approaches, and
+ * writes the solutions and execution results to a file. Every puzzle and
+ * approach is solved as a separate task on a work-stealing pool, and results
+ * are collected in file name order, so output does not depend on the number
+ * of threads. Only a window of puzzles is in flight at a time, and each
+ * solution is written as soon as its puzzle is collected, so memory does not
+ * grow with the number of puzzles.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class Controller {
+    private static final String[] TYPES = {"classic", "killer", "triple", "samurai"};
+    private static final int WINDOW_PER_THREAD = 4;
+    private static final long SLICE_BYTES = 1 << 20;
+    private static final boolean[][] CONFIGS = {
+        {false, false},
+        {true, false},
+        {false, true}
+    };
+    private static final String[] PORTFOLIO_NAMES = {
+        "dancing links",
+        "forward checking, MRV, all-different",
+        "forward checking, MRV",
+        "forward checking",
+        "AC-3 preprocessing",
+        "plain DFS"
+    };
+
+    /**
+     * Runs the program execution routine. Reads each file in the puzzles
+     * directory, initializes metric tracking variables,
+     * and runs the solving mechanism with three variations: plain BFS,
+     * AC-3 preprocessing, and forward checking. Accepts an optional
+     * "--threads n" argument, the default is one thread per processor.
+     * With "--portfolio", races several configurations on every puzzle
+     * instead. With "--split n", splits the top n levels of the search of 
+     * every puzzle over the threads. With "--input file", solves a file with 
+     * one puzzle per line instead of the puzzles directory, and writes the 
+     * solutions one per line to "--output file", by default the input file 
+     * name with a "-sol" suffix. Files ending with ".pack" are read and 
+     * written in the packed binary format instead. With "--unique", also 
+     * checks that every puzzle of the file has exactly one solution. With 
+     * "--generate n", generates n puzzles instead, of the side given by 
+     * "--side" and the difficulty given by "--difficulty", from the seed 
+     * given by "--seed", and writes them to "--output file", by default 
+     * "data/generated.txt". An option with a missing or malformed value is 
+     * reported, and the program exits with status 1.
+     * 
+     * @param args standard String array of arguments.
+     * @throws Exception general exception thrown by the program.
+     */
+    public static void main(String[] args) throws Exception {
+        Writer wr = new Writer();
+        int threads;
+        int splitDepth;
+        String input;
+        String output;
+        int generate;
+
+        // Option exception handling.
+        try {
+            threads = parseOption(args, "--threads", Runtime.getRuntime().availableProcessors());
+            splitDepth = parseOption(args, "--split", 0);
+            input = parseText(args, "--input", null);
+            output = parseText(args, "--output", null);
+            generate = parseOption(args, "--generate", 0);
+        } catch (IllegalArgumentException iae) {
+            exitWithUsage(iae.getMessage());
+            return;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+
+        if (generate > 0) {
+            runGenerator(wr, args, generate, pool);
+            pool.shutdown();
+            return;
+        }
+
+        if (input != null) {
+            runLines(wr, input, output == null ? solutionPath(input) : output, pool,
+                    Arrays.asList(args).contains("--unique"));
+            pool.shutdown();
+            return;
+        }
+
+        File[] puzzles = listPuzzles(new File("data/puzzles"));
+
+        if (Arrays.asList(args).contains("--portfolio")) {
+            runPortfolio(wr, puzzles, pool);
+            pool.shutdown();
+            return;
+        }
+
+        if (splitDepth > 0) {
+            runSplit(wr, puzzles, pool, splitDepth);
+            pool.shutdown();
+            return;
+        }
+        // Tracking each type and configuration.
+        StatsCollector[][] typeStats = new StatsCollector[TYPES.length][CONFIGS.length];
+
+        for (int t = 0; t < TYPES.length; t++) {
+            for (int c = 0; c < CONFIGS.length; c++) {
+                typeStats[t][c] = new StatsCollector();
+            }
+        }
+
+        int window = WINDOW_PER_THREAD * threads;
+        ArrayDeque<List<Future<Run>>> pending = new ArrayDeque<List<Future<Run>>>();
+
+        // One task for every puzzle and configuration, a window ahead.
+        for (File puzzle : puzzles) {
+            List<Future<Run>> runs = new ArrayList<Future<Run>>(CONFIGS.length);
+
+            for (int c = 0; c < CONFIGS.length; c++) {
+                boolean[] config = CONFIGS[c];
+                boolean keepCells = c == 0;
+
+                runs.add(pool.submit(() -> solvePuzzle(puzzle, config[0], config[1], keepCells)));
+            }
+            pending.add(runs);
+
+            // Collect the oldest puzzle once the window is full.
+            if (pending.size() >= window) {
+                collectRuns(wr, pending.poll(), typeStats);
+            }
+        }
+
+        // Collect the rest in puzzle order.
+        while (!pending.isEmpty()) {
+            collectRuns(wr, pending.poll(), typeStats);
+        }
+        pool.shutdown();
+
+        // Log classic puzzles, and other types if there were any.
+        for (int t = 0; t < TYPES.length; t++) {
+            if (t > 0 && typeStats[t][0].getSolves() == 0) {
+                continue;
+            }
+            writeTypeLog(wr, TYPES[t], typeStats[t]);
+        }
+    }
+
+    /**
+     * Waits for the runs of one puzzle, writes the solution found by plain 
+     * DFS, and adds the metrics of every run to the collectors of its type. 
+     * A puzzle that could not be read is reported and skipped.
+     * 
+     * @param wr writer for the solution.
+     * @param runs of the puzzle, one for every configuration.
+     * @param typeStats collectors of each type and configuration.
+     * @throws Exception if a run failed.
+     */
+    private static void collectRuns(Writer wr, List<Future<Run>> runs, 
+            StatsCollector[][] typeStats) throws Exception {
+        for (int c = 0; c < CONFIGS.length; c++) {
+            Run run = runs.get(c).get();
+
+            // Skip a puzzle that could not be read, reporting it once.
+            if (run.stats == null) {
+                if (c == 0) {
+                    System.out.println("Skipped puzzle " + run.type + "_" + run.id);
+                }
+                continue;
+            }
+
+            // Write the solution found by plain DFS.
+            if (c == 0) {
+                wr.writeSolution(run.type, run.id, run.cells);
+            }
+
+            // Move exe data for the puzzle type to a collector.
+            for (int t = 0; t < TYPES.length; t++) {
+                if (run.type.equals(TYPES[t])) {
+                    typeStats[t][c].add(run.stats);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the log of one puzzle type, with the average nodes, search 
+     * calls and time of each configuration.
+     * 
+     * @param wr writer for the log.
+     * @param type of the puzzles.
+     * @param stats of each configuration.
+     */
+    private static void writeTypeLog(Writer wr, String type, StatsCollector[] stats) {
+        double[] avgs = new double[3 * CONFIGS.length];
+
+        // Average nodes, search calls and time of each configuration.
+        for (int c = 0; c < CONFIGS.length; c++) {
+            double n = Math.max(stats[c].getSolves(), 1);
+
+            avgs[3 * c] = stats[c].getNodes() / n;
+            avgs[3 * c + 1] = stats[c].getCalls() / n;
+            avgs[3 * c + 2] = avgMillis(stats[c].getWallTime(), n);
+        }
+
+        wr.writeLog(type, avgs[0], avgs[1], avgs[2],
+                avgs[3], avgs[4], avgs[5],
+                avgs[6], avgs[7], avgs[8]);
+    }
+
+    /**
+     * Generates puzzles in parallel, and writes them in id order to a file 
+     * with one puzzle per line, or a packed file. Logs the number of 
+     * puzzles, the average metrics of their rating solves, and the time per 
+     * puzzle.
+     * 
+     * @param wr writer for the log.
+     * @param args standard String array of arguments.
+     * @param count number of puzzles.
+     * @param pool to generate the puzzles on.
+     * @throws Exception if generating or writing fails.
+     */
+    private static void runGenerator(Writer wr, String[] args, int count, ForkJoinPool pool)
+            throws Exception {
+        String difficulty = null;
+        long seed;
+        Generator generator;
+
+        // Side exception handling.
+        try {
+            generator = new Generator(parseOption(args, "--side", 9));
+        } catch (IllegalArgumentException iae) {
+            exitWithUsage("Expected --side 9, 16 or 25, found " + valueOf(args, "--side"));
+            return;
+        }
+
+        // Difficulty exception handling.
+        try {
+            difficulty = parseText(args, "--difficulty", null);
+
+            if (difficulty != null) {
+                generator.setDifficulty(Generator.Difficulty.valueOf(difficulty.toUpperCase()));
+            }
+        } catch (IllegalArgumentException iae) {
+            exitWithUsage("Expected --difficulty " 
+                    + Arrays.toString(Generator.Difficulty.values()).toLowerCase() 
+                    + ", found " + valueOf(args, "--difficulty"));
+            return;
+        }
+
+        // Seed exception handling.
+        try {
+            seed = Long.parseLong(parseText(args, "--seed", "1"));
+        } catch (IllegalArgumentException iae) {
+            exitWithUsage("Expected a number after --seed, found " + valueOf(args, "--seed"));
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        List<CSP> puzzles = generator.generate(pool, count, seed);
+
+        // Write the puzzles in id order.
+        try (PuzzleWriter out = openSolutions(parseText(args, "--output", "data/generated.txt"))) {
+            for (CSP csp : puzzles) {
+                out.write(csp);
+            }
+        }
+
+        long time = System.nanoTime() - startTime;
+        StatsCollector stats = generator.getStats();
+        double n = Math.max(stats.getSolves(), 1);
+
+        wr.writeGeneratorLog(difficulty == null ? "any" : difficulty, stats.getSolves(), 
+                stats.getNodes() / n, stats.getBacktracks() / n, stats.getPropagations() / n, 
+                stats.getMaxDepth(), avgMillis(time, n));
+    }
+
+    /**
+     * Solves every puzzle of a file with one puzzle per line, or a packed 
+     * file, in parallel, with forward checking, MRV and the all-different 
+     * propagator. Solutions are written in input order, to a packed file or 
+     * through a line writer with its own thread. Logs the number of puzzles, 
+     * the average values tried and the average time per puzzle. When 
+     * checking uniqueness, the search of every puzzle stops at a second 
+     * solution, and puzzles without exactly one solution are reported.
+     * 
+     * @param wr writer for the log.
+     * @param input file of puzzles.
+     * @param output file for the solutions.
+     * @param pool to solve the puzzles on.
+     * @param unique true if every puzzle should have exactly one solution.
+     * @throws Exception if reading, solving or writing fails.
+     */
+    private static void runLines(Writer wr, String input, String output, ForkJoinPool pool,
+            boolean unique) throws Exception {
+        StatsCollector stats = new StatsCollector();
+        ThreadLocal<Solver> solvers = ThreadLocal.withInitial(() -> {
+            Solver solver = new Solver();
+            solver.setMrv(true);
+            solver.setAllDiff(true);
+            return solver;
+        });
+        Function<CSP, Board> solve = csp -> solveLine(csp, solvers.get(), unique, stats);
+
+        long startTime = System.nanoTime();
+
+        try (PuzzleWriter out = openSolutions(output)) {
+            if (input.endsWith(".pack")) {
+                solvePacked(input, out, pool, solve);
+            } else {
+                solveSlices(input, out, pool, solve);
+            }
+        }
+
+        long time = System.nanoTime() - startTime;
+        double n = Math.max(stats.getSolves(), 1);
+
+        wr.writeLinesLog("classic", stats.getSolves(), stats.getNodes() / n, 
+                avgMillis(time, 1), avgMillis(time, n));
+    }
+
+    /**
+     * Solves the puzzles of a packed file. Records are read in blocks on 
+     * this thread, and every puzzle is solved on the pool a bounded window 
+     * ahead, so memory doesn't grow with the file.
+     * 
+     * @param input packed file of puzzles.
+     * @param out writer for the solutions.
+     * @param pool to solve the puzzles on.
+     * @param solve solves a puzzle on a pool thread.
+     * @throws Exception if reading, solving or writing fails.
+     */
+    private static void solvePacked(String input, PuzzleWriter out, ForkJoinPool pool, 
+            Function<CSP, Board> solve) throws Exception {
+        int window = WINDOW_PER_THREAD * pool.getParallelism();
+        ArrayDeque<Future<Board>> pending = new ArrayDeque<Future<Board>>();
+
+        try (PackedReader packed = new PackedReader(input); 
+                Stream<CSP> puzzles = packed.stream()) {
+            Iterator<CSP> it = puzzles.iterator();
+
+            // Read on this thread, solve a window ahead on the pool.
+            while (it.hasNext()) {
+                CSP csp = it.next();
+
+                pending.add(pool.submit(() -> solve.apply(csp)));
+
+                // Write the oldest puzzle once the window is full.
+                if (pending.size() >= window) {
+                    out.write(pending.poll().get());
+                }
+            }
+
+            // Write the rest in input order.
+            while (!pending.isEmpty()) {
+                out.write(pending.poll().get());
+            }
+        }
+    }
+
+    /**
+     * Solves the puzzles of a file with one puzzle per line. The file is 
+     * mapped into slices of about SLICE_BYTES, at least one for every 
+     * thread, and each slice is parsed and solved by one task. Slices run a 
+     * bounded window ahead, and their solutions are written back in slice 
+     * order. Puzzles are named by the byte offset of their line.
+     * 
+     * @param input file of puzzles.
+     * @param out writer for the solutions.
+     * @param pool to solve the puzzles on.
+     * @param solve solves a puzzle on a pool thread.
+     * @throws Exception if solving or writing fails.
+     */
+    private static void solveSlices(String input, PuzzleWriter out, ForkJoinPool pool, 
+            Function<CSP, Board> solve) throws Exception {
+        int slices = (int) Math.max(pool.getParallelism(), new File(input).length() / SLICE_BYTES);
+        int window = WINDOW_PER_THREAD * pool.getParallelism();
+        ArrayDeque<Future<List<Board>>> pending = new ArrayDeque<Future<List<Board>>>();
+
+        // One task for every slice, a window ahead.
+        for (Stream<CSP> slice : new Reader().mapLines(input, slices)) {
+            pending.add(pool.submit(() -> slice.map(solve).collect(Collectors.toList())));
+
+            // Write the oldest slice once the window is full.
+            if (pending.size() >= window) {
+                writeBoards(out, pending.poll().get());
+            }
+        }
+
+        // Write the rest in slice order.
+        while (!pending.isEmpty()) {
+            writeBoards(out, pending.poll().get());
+        }
+    }
+
+    /**
+     * Writes solved boards in order.
+     * 
+     * @param out writer for the solutions.
+     * @param boards of the solved puzzles.
+     * @throws IOException if the solutions can't be written.
+     */
+    private static void writeBoards(PuzzleWriter out, List<Board> boards) throws IOException {
+        for (Board board : boards) {
+            out.write(board);
+        }
+    }
+
+    /**
+     * Solves one puzzle of a file of lines. When checking uniqueness, counts 
+     * up to two solutions and reports puzzles without exactly one.
+     * 
+     * @param csp puzzle to solve.
+     * @param solver of the thread.
+     * @param unique true if the puzzle should have exactly one solution.
+     * @param stats collector of the metrics of every puzzle.
+     * @return board of the solved puzzle.
+     */
+    private static Board solveLine(CSP csp, Solver solver, boolean unique, StatsCollector stats) {
+        // Count up to two solutions, or stop at the first.
+        if (unique) {
+            long count = solver.countSolutions(csp, false, true, 2);
+
+            if (count != 1) {
+                System.out.println("Puzzle " + csp.getId() + " has " 
+                        + (count == 0 ? "no solution" : "more than one solution"));
+            }
+        } else {
+            solver.solve(csp, false, true);
+        }
+        stats.add(solver.getStats());
+
+        return csp.getBoard();
+    }
+
+    /**
+     * Opens the writer for solutions, packed if the name ends with ".pack", 
+     * or one per line.
+     * 
+     * @param output file for the solutions.
+     * @return writer for the solutions.
+     * @throws IOException if the file can't be created.
+     */
+    private static PuzzleWriter openSolutions(String output) throws IOException {
+        if (output.endsWith(".pack")) {
+            return new PackedWriter(output);
+        }
+        return new LineWriter(new FileOutputStream(output), 4096);
+    }
+
+    /**
+     * Solves puzzles one at a time, racing every portfolio configuration on 
+     * each. Writes the solutions, and logs how often each configuration won 
+     * and the average and worst time of classic puzzles.
+     * 
+     * @param wr writer for solutions and the log.
+     * @param puzzles files of the puzzles.
+     * @param pool to race the configurations on.
+     * @throws InterruptedException if interrupted while waiting for a winner.
+     */
+    private static void runPortfolio(Writer wr, File[] puzzles, ForkJoinPool pool)
+            throws InterruptedException {
+        Portfolio portfolio = createPortfolio(pool);
+        Reader rd = new Reader();
+        int[] wins = new int[portfolio.size()];
+        long timeSum = 0;
+        long timeMax = 0;
+        int classCount = 0;
+
+        // Race the configurations on every puzzle.
+        for (File puzzle : puzzles) {
+            String[] name = parseFileName(puzzle.getName());
+            CSP csp = rd.readPuzzle(puzzle.getPath(), name[0], name[1]);
+
+            if (csp == null) {
+                System.out.println("Skipped puzzle " + name[0] + "_" + name[1]);
+                continue;
+            }
+
+            long startTime = System.nanoTime();
+            portfolio.solve(csp);
+            long time = System.nanoTime() - startTime;
+
+            wr.writeSolution(name[0], name[1], csp.getCells());
+
+            // Move exe data for classic puzzle to variables.
+            if (name[0].equals("classic") && portfolio.getWinner() != -1) {
+                wins[portfolio.getWinner()]++;
+                timeSum += time;
+                timeMax = Math.max(timeMax, time);
+                classCount++;
+            }
+        }
+
+        double n = Math.max(classCount, 1);
+
+        wr.writePortfolioLog("classic", PORTFOLIO_NAMES, wins, avgMillis(timeSum, n),
+                avgMillis(timeMax, 1));
+    }
+
+    /**
+     * Solves puzzles one at a time, splitting the top levels of each search 
+     * into tasks. Subtrees are solved with forward checking and MRV. Writes 
+     * the solutions, and logs the average values tried and the average and 
+     * worst time of classic puzzles.
+     * 
+     * @param wr writer for solutions and the log.
+     * @param puzzles files of the puzzles.
+     * @param pool to run the subtrees on.
+     * @param splitDepth number of search levels split into tasks.
+     */
+    private static void runSplit(Writer wr, File[] puzzles, ForkJoinPool pool, int splitDepth) {
+        ParallelSearch search = new ParallelSearch(pool, () -> {
+            Solver solver = new Solver();
+            solver.setMrv(true);
+            return solver;
+        }, false, true, splitDepth);
+        Reader rd = new Reader();
+        long expSum = 0;
+        long timeSum = 0;
+        long timeMax = 0;
+        int classCount = 0;
+
+        // Split the search of every puzzle.
+        for (File puzzle : puzzles) {
+            String[] name = parseFileName(puzzle.getName());
+            CSP csp = rd.readPuzzle(puzzle.getPath(), name[0], name[1]);
+
+            if (csp == null) {
+                System.out.println("Skipped puzzle " + name[0] + "_" + name[1]);
+                continue;
+            }
+
+            long startTime = System.nanoTime();
+            search.solve(csp);
+            long time = System.nanoTime() - startTime;
+
+            wr.writeSolution(name[0], name[1], csp.getCells());
+
+            // Move exe data for classic puzzle to variables.
+            if (name[0].equals("classic")) {
+                expSum += search.getStats().getNodes();
+                timeSum += time;
+                timeMax = Math.max(timeMax, time);
+                classCount++;
+            }
+        }
+
+        double n = Math.max(classCount, 1);
+
+        wr.writeSplitLog("classic", splitDepth, expSum / n, avgMillis(timeSum, n),
+                avgMillis(timeMax, 1));
+    }
+
+    /**
+     * Creates the portfolio of configurations, in the order of their names. 
+     * With fewer threads than configurations, the first ones start first, 
+     * so the strongest configurations come first.
+     * 
+     * @param pool to race the configurations on.
+     * @return portfolio of solver configurations.
+     */
+    private static Portfolio createPortfolio(ForkJoinPool pool) {
+        Portfolio portfolio = new Portfolio(pool);
+
+        portfolio.add(() -> {
+            Solver solver = new Solver();
+            solver.setBackend(Solver.Backend.DLX);
+            return solver;
+        }, false, false);
+        portfolio.add(() -> {
+            Solver solver = new Solver();
+            solver.setMrv(true);
+            solver.setAllDiff(true);
+            return solver;
+        }, false, true);
+        portfolio.add(() -> {
+            Solver solver = new Solver();
+            solver.setMrv(true);
+            return solver;
+        }, false, true);
+        portfolio.add(Solver::new, false, true);
+        portfolio.add(Solver::new, true, false);
+        portfolio.add(Solver::new, false, false);
+
+        return portfolio;
+    }
+
+    /**
+     * Reads and solves a single puzzle with one configuration. Runs on a
+     * worker thread, so it uses its own reader and solver.
+     * 
+     * @param puzzle file of the puzzle.
+     * @param pre true if preprocessing requested.
+     * @param forward true if forward checking requested.
+     * @param keepCells true if the solved cells are kept in the run.
+     * @return solved cells, if kept, and execution data, none if the 
+     *         puzzle can't be read.
+     */
+    private static Run solvePuzzle(File puzzle, boolean pre, boolean forward, 
+            boolean keepCells) {
+        Reader rd = new Reader();
+        Solver solver = new Solver();
+        Run run = new Run();
+        String[] name = parseFileName(puzzle.getName());
+
+        run.type = name[0];
+        run.id = name[1];
+        CSP csp = rd.readPuzzle(puzzle.getPath(), run.type, run.id);
+
+        if (csp == null) {
+            return run;
+        }
+
+        if (keepCells) {
+            run.cells = csp.getCells();
+        }
+
+        solver.solve(csp, pre, forward);
+        run.stats = solver.getStats();
+
+        return run;
+    }
+
+    /**
+     * Averages a sum of nanoseconds, in milliseconds rounded to one decimal.
+     * 
+     * @param nanos sum of times in nanoseconds.
+     * @param n number of puzzles.
+     * @return average time in milliseconds.
+     */
+    private static double avgMillis(long nanos, double n) {
+        return Math.round(nanos / n / 100000.0) / 10.0;
+    }
+
+    /**
+     * Lists puzzle files of a directory, sorted by name.
+     * 
+     * @param dir directory with puzzles.
+     * @return sorted puzzle files.
+     */
+    private static File[] listPuzzles(File dir) {
+        // Exclude automatically generated .DS_Store file.
+        File[] puzzles = dir.listFiles((d, name) -> !name.equals(".DS_Store"));
+
+        Arrays.sort(puzzles);
+
+        return puzzles;
+    }
+
+    /**
+     * Parses a positive number option from the arguments.
+     * 
+     * @param args arguments of the program.
+     * @param name of the option.
+     * @param def value if the option is not given.
+     * @return value of the option, at least 1 if given.
+     * @throws IllegalArgumentException if the option has no value, or the 
+     *         value is not a number.
+     */
+    private static int parseOption(String[] args, String name, int def) {
+        String text = parseText(args, name, null);
+
+        if (text == null) {
+            return def;
+        }
+
+        // Number exception handling.
+        try {
+            return Math.max(1, Integer.parseInt(text));
+        } catch (NumberFormatException nfe) {
+            throw new IllegalArgumentException("Expected a number after " + name + ", found " 
+                    + text);
+        }
+    }
+
+    /**
+     * Parses a text option from the arguments.
+     * 
+     * @param args arguments of the program.
+     * @param name of the option.
+     * @param def value if the option is not given.
+     * @return value of the option.
+     * @throws IllegalArgumentException if the option is the last argument, 
+     *         with no value after it.
+     */
+    private static String parseText(String[] args, String name, String def) {
+        // Look for the option.
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(name)) {
+                if (i == args.length - 1) {
+                    throw new IllegalArgumentException("Expected a value after " + name);
+                }
+                return args[i + 1];
+            }
+        }
+        return def;
+    }
+
+    /**
+     * Gets the value of an option as given, for messages about it.
+     * 
+     * @param args arguments of the program.
+     * @param name of the option.
+     * @return value of the option, "nothing" if it has none.
+     */
+    private static String valueOf(String[] args, String name) {
+        // Look for the option.
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return "nothing";
+    }
+
+    /**
+     * Prints a message about the arguments, and exits with a failure 
+     * status.
+     * 
+     * @param message to print.
+     */
+    private static void exitWithUsage(String message) {
+        System.out.println(message);
+        System.exit(1);
+    }
+
+    /**
+     * Makes the default solutions file name, adding a "-sol" suffix before 
+     * the extension.
+     * 
+     * @param input file of puzzles.
+     * @return file for the solutions.
+     */
+    private static String solutionPath(String input) {
+        int dot = input.lastIndexOf('.');
+
+        // Keep the extension, if there is one in the file name.
+        if (dot > input.lastIndexOf(File.separatorChar)) {
+            return input.substring(0, dot) + "-sol" + input.substring(dot);
+        }
+        return input + "-sol";
+    }
+
+    /**
+     * Parses the file name to retrieve the type of the puzzle and the id.
+     * 
+     * @param name of the puzzle file.
+     * @return type and id of the puzzle.
+     */
+    private static String[] parseFileName(String name) {
+        String[] split = name.split("_");
+        String idStr = split[1];
+
+        return new String[] {split[0], idStr.substring(0, idStr.length() - 4)};
+    }
+
+    /**
+     * Holds the result of solving one puzzle with one configuration.
+     */
+    private static class Run {
+        String type;
+        String id;
+        ArrayList<Cell> cells;
+        SolveStats stats;
+    }
+}
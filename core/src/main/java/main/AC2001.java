@@ -0,0 +1,129 @@
+package main;
+
+/**
+ * Implements arc consistency with residual supports, in the style of
+ * AC-2001 / AC-3rm. Works like AC-3, but for every arc and value it remembers
+ * the last value found to support it. When the arc is revised again, the
+ * value is kept if its support is still in the domain, which takes constant
+ * time. Only when the support is gone is a new one searched for. Supports do
+ * not need to be restored on backtrack, they are checked before being used.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class AC2001 extends AC3 {
+    private static final int STRIDE = 32;
+
+    private CSP csp;
+    private int[][] slots;
+    private int[] offsets;
+    private int[] supports;
+
+    /**
+     * Constructor for the engine that does not record its changes.
+     */
+    public AC2001() {
+        this(null);
+    }
+
+    /**
+     * Constructor for the engine that saves every revised cell on a trail,
+     * so the search can undo the revisions on backtrack.
+     * 
+     * @param trail to save revised cells on.
+     */
+    public AC2001(Trail trail) {
+        super(trail);
+    }
+
+    /**
+     * Revises the arc from the k-th peer of a cell to the cell. Every value
+     * of the peer needs a different value left in the cell to support it.
+     * 
+     * @param csp generic puzzle structure.
+     * @param y position of the cell the arc points at.
+     * @param k position of the peer in the peer list of the cell.
+     * @return true if the domain of the peer was revised.
+     */
+    @Override
+    protected boolean revise(CSP csp, int y, int k) {
+        // Build supports the first time a puzzle is seen.
+        if (csp != this.csp) {
+            this.index(csp);
+        }
+
+        int x = csp.getPeers(y)[k];
+        Cell cellX = csp.getCellAt(x);
+        int domX = cellX.getDomain();
+        int domY = csp.getBoard().getDomain(y);
+        int base = (this.offsets[x] + this.slots[y][k]) * STRIDE;
+        int removed = 0;
+
+        // For every value of the peer.
+        for (int dom = domX; dom != 0; dom = Domain.dropLowest(dom)) {
+            int val = Domain.lowest(dom);
+            int support = this.supports[base + val];
+
+            // Keep the value if its last support is still there.
+            if (support != 0 && Domain.contains(domY, support)) {
+                continue;
+            }
+
+            int others = domY & ~Domain.of(val);
+
+            // Remember a new support, or remove the value if there is none.
+            if (others != 0) {
+                this.supports[base + val] = Domain.lowest(others);
+            } else {
+                removed |= Domain.of(val);
+            }
+        }
+
+        if (removed == 0) {
+            return false;
+        }
+        this.setDomain(cellX, domX & ~removed);
+
+        return true;
+    }
+
+    /**
+     * Builds the support table of a puzzle. Every arc gets a row of
+     * supports, one for each value, found by the position of the cell the
+     * arc points at in the peer list of the revised cell.
+     * 
+     * @param csp generic puzzle structure.
+     */
+    private void index(CSP csp) {
+        int n = csp.getCells().size();
+        int total = 0;
+
+        this.csp = csp;
+        this.offsets = new int[n];
+        this.slots = new int[n][];
+
+        // Give every cell a block of rows, one per peer.
+        for (int x = 0; x < n; x++) {
+            this.offsets[x] = total;
+            total += csp.getPeers(x).length;
+        }
+
+        // For every peer of every cell, find the cell among the peer's peers.
+        for (int y = 0; y < n; y++) {
+            int[] peers = csp.getPeers(y);
+            this.slots[y] = new int[peers.length];
+
+            for (int k = 0; k < peers.length; k++) {
+                int[] back = csp.getPeers(peers[k]);
+
+                for (int j = 0; j < back.length; j++) {
+                    if (back[j] == y) {
+                        this.slots[y][k] = j;
+                        break;
+                    }
+                }
+            }
+        }
+        this.supports = new int[total * STRIDE];
+    }
+}
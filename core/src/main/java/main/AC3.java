@@ -0,0 +1,278 @@
+package main;
+
+import java.util.LinkedList;
+
+/**
+ * Implements the AC-3 arc validation algorithm. Used for both preprocessing 
+ * and forward-checking variations of the backtracking search. Instead of a 
+ * queue of arcs, a queue of cells whose domains changed is kept: taking a 
+ * cell from the queue revises every arc pointing at it from its peers. The 
+ * queue is a ring buffer with a bitmap of queued cells, reused across calls.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class AC3 {
+    private Trail trail;
+    private int[] queue = new int[0];
+    private long[] queued = new long[0];
+    private int head;
+    private int count;
+
+    /**
+     * Constructor for AC-3 that does not record its changes.
+     */
+    public AC3() {
+        this(null);
+    }
+
+    /**
+     * Constructor for AC-3 that saves every revised cell on a trail, so 
+     * the search can undo the revisions on backtrack.
+     * 
+     * @param trail to save revised cells on.
+     */
+    public AC3(Trail trail) {
+        this.trail = trail;
+    }
+
+    /**
+     * Runs the AC-3 algorithm on the whole puzzle. Every cell starts in the 
+     * queue, so every arc is revised at least once.
+     * 
+     * @param csp generic puzzle structure.
+     * @return true if puzzle is consistent so far.
+     */
+    public boolean ac3(CSP csp) {
+        int n = csp.getCells().size();
+        this.reset(n);
+
+        // Add every cell to the queue.
+        for (int i = 0; i < n; i++) {
+            this.enqueue(i);
+        }
+        return this.run(csp);
+    }
+
+    /**
+     * Runs the AC-3 algorithm after a single cell changed. Only arcs 
+     * pointing at that cell start in the queue, more are added as revisions 
+     * spread.
+     * 
+     * @param csp generic puzzle structure.
+     * @param cell that changed.
+     * @return true if puzzle is consistent so far.
+     */
+    public boolean propagate(CSP csp, Cell cell) {
+        this.reset(csp.getCells().size());
+        this.enqueue(cell.getIndex());
+
+        return this.run(csp);
+    }
+
+    /**
+     * Runs the AC-3 algorithm after several cells changed. Arcs pointing at 
+     * any of them start in the queue.
+     * 
+     * @param csp generic puzzle structure.
+     * @param changed positions of the cells that changed.
+     * @param n number of changed cells.
+     * @return true if puzzle is consistent so far.
+     */
+    public boolean propagate(CSP csp, int[] changed, int n) {
+        this.reset(csp.getCells().size());
+
+        for (int i = 0; i < n; i++) {
+            this.enqueue(changed[i]);
+        }
+        return this.run(csp);
+    }
+
+    /**
+     * Takes cells from the queue until it is empty. For every cell, revises 
+     * the arcs from its peers to it, and adds revised peers to the queue.
+     * 
+     * @param csp generic puzzle structure.
+     * @return true if no domain ended up empty.
+     */
+    private boolean run(CSP csp) {
+        // For every cell in the queue.
+        while (this.count > 0) {
+            int y = this.dequeue();
+            int[] peers = csp.getPeers(y);
+
+            // For every arc from a peer to the cell.
+            for (int k = 0; k < peers.length; k++) {
+                int x = peers[k];
+
+                // Check if arc was revised.
+                if (this.revise(csp, y, k)) {
+
+                    // If domain ends up empty, signal inconsistency.
+                    if (csp.getCellAt(x).getDomainSize() == 0) {
+                        this.clearQueue();
+                        return false;
+                    }
+                    this.enqueue(x);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Revises the arc from the k-th peer of a cell to the cell. Used by the 
+     * queue, subclasses can replace it with a different revision method.
+     * 
+     * @param csp generic puzzle structure.
+     * @param y position of the cell the arc points at.
+     * @param k position of the peer in the peer list of the cell.
+     * @return true if the domain of the peer was revised.
+     */
+    protected boolean revise(CSP csp, int y, int k) {
+        return this.revise(csp.getCellAt(csp.getPeers(y)[k]), csp.getCellAt(y));
+    }
+
+    /**
+     * Check if domains of two cells are consistent. If second cell has a 
+     * single value left, that value is removed from the first cell.
+     * 
+     * @param arc to be analyze.
+     * @return true if arc was revised.
+     */
+    public boolean revise(Cell[] arc) {
+        return this.revise(arc[0], arc[1]);
+    }
+
+    /**
+     * Check if domains of two cells are consistent. If second cell has a 
+     * single value left, that value is removed from the first cell.
+     * 
+     * @param x cell to revise.
+     * @param y cell to revise against.
+     * @return true if first cell was revised.
+     */
+    private boolean revise(Cell x, Cell y) {
+        int other = y.getDomain();
+
+        // Only a second cell with a single value can remove a value.
+        if (Domain.size(other) != 1 || (x.getDomain() & other) == 0) {
+            return false;
+        }
+        this.setDomain(x, x.getDomain() & ~other);
+
+        return true;
+    }
+
+    /**
+     * Sets the domain of a revised cell, through the trail if changes are 
+     * tracked.
+     * 
+     * @param cell that was revised.
+     * @param domain mask to set.
+     */
+    protected void setDomain(Cell cell, int domain) {
+        if (this.trail != null) {
+            this.trail.setDomain(cell, domain);
+        } else {
+            cell.setDomain(domain);
+        }
+    }
+
+    /**
+     * Makes sure the queue can hold every cell of a puzzle.
+     * 
+     * @param n number of cells in the puzzle.
+     */
+    private void reset(int n) {
+        // Reuse buffers unless the puzzle is bigger.
+        if (this.queue.length < n) {
+            this.queue = new int[n];
+            this.queued = new long[(n + 63) / 64];
+        }
+        this.head = 0;
+        this.count = 0;
+    }
+
+    /**
+     * Adds a cell to the back of the queue, unless it is already queued.
+     * 
+     * @param i position of the cell.
+     */
+    private void enqueue(int i) {
+        long bit = 1L << i;
+
+        if ((this.queued[i >>> 6] & bit) != 0) {
+            return;
+        }
+        this.queued[i >>> 6] |= bit;
+
+        int tail = this.head + this.count;
+
+        // Wrap around the end of the buffer.
+        if (tail >= this.queue.length) {
+            tail -= this.queue.length;
+        }
+        this.queue[tail] = i;
+        this.count++;
+    }
+
+    /**
+     * Takes a cell from the front of the queue.
+     * 
+     * @return position of the cell.
+     */
+    private int dequeue() {
+        int i = this.queue[this.head];
+
+        this.queued[i >>> 6] &= ~(1L << i);
+        this.head++;
+
+        // Wrap around the end of the buffer.
+        if (this.head == this.queue.length) {
+            this.head = 0;
+        }
+        this.count--;
+
+        return i;
+    }
+
+    /**
+     * Empties the queue, leaving the buffers ready for the next call.
+     */
+    private void clearQueue() {
+        while (this.count > 0) {
+            this.dequeue();
+        }
+    }
+
+    /**
+     * Generates a linked list of all cells in the same constraint as a given 
+     * cell. A cell that shares several constraints is listed once for each.
+     * 
+     * @param csp generic puzzle structure.
+     * @param cell to find neighbors for.
+     * @return a list of neighbors for a cell.
+     */
+    public LinkedList<Cell> getNeighbors(CSP csp, Cell cell) {
+        LinkedList<Cell> neighbors = new LinkedList<Cell>();
+
+        // For every constraint that contains the cell.
+        for (int c : csp.getCellConstraints(cell.getIndex())) {
+            Constraint constraint = csp.getConstraintAt(c);
+
+            // For every cell in the constraint.
+            for (int i = 0; i < constraint.getCellsSize(); i++) {
+                Cell curr = constraint.getCellAt(i);
+
+                // Skip the cell itself.
+                if (curr.equals(cell)) {
+                    continue;
+                }
+
+                neighbors.add(curr);
+            }
+        }
+        return neighbors;
+    }
+}
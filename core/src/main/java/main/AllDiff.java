@@ -0,0 +1,198 @@
+package main;
+
+/**
+ * Implements the global all-different propagator for "alldif" constraints.
+ * Unlike the binary arcs of AC-3, it looks at every cell of the constraint at
+ * once. Values that only one cell can take (hidden singles) are forced into
+ * that cell, and groups of k cells whose domains hold only k values (naked
+ * pairs, triples, ...) remove those values from the rest of the constraint.
+ * Domains are combined as bit masks, so no pass allocates.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class AllDiff {
+    private Trail trail;
+    private int maxSubset;
+    private Cell[] cells = new Cell[0];
+    private int[] doms = new int[0];
+    private int[] free = new int[0];
+    private int freeSize;
+
+    /**
+     * Constructor for the propagator that does not record its changes.
+     * Looks for naked subsets of up to four cells.
+     */
+    public AllDiff() {
+        this(null, 4);
+    }
+
+    /**
+     * Constructor for the propagator that saves every changed cell on a
+     * trail, so the search can undo the changes on backtrack.
+     * 
+     * @param trail to save changed cells on.
+     * @param maxSubset largest naked subset to look for.
+     */
+    public AllDiff(Trail trail, int maxSubset) {
+        this.trail = trail;
+        this.maxSubset = maxSubset;
+    }
+
+    /**
+     * Runs the propagator on a single constraint. Constraints of other
+     * types are left alone.
+     * 
+     * @param constraint to propagate.
+     * @return false if the constraint can no longer be satisfied.
+     */
+    public boolean propagate(Constraint constraint) {
+        if (!constraint.getType().equals("alldif")) {
+            return true;
+        }
+
+        int n = constraint.getCellsSize();
+        int once = 0;
+        int twice = 0;
+
+        this.load(constraint);
+
+        // Find values held by one cell only, and values held by more.
+        for (int i = 0; i < n; i++) {
+            twice |= once & this.doms[i];
+            once |= this.doms[i];
+        }
+
+        // Every cell needs its own value.
+        if (Domain.size(once) < n) {
+            return false;
+        }
+
+        // Only cells that use up every value must take every single.
+        int singles = Domain.size(once) == n ? once & ~twice : 0;
+
+        // Force hidden singles into the only cell that can take them.
+        for (int i = 0; i < n && singles != 0; i++) {
+            int hidden = this.doms[i] & singles;
+
+            if (hidden == 0) {
+                continue;
+            }
+
+            // A cell can't be the only place for two values.
+            if (Domain.size(hidden) > 1) {
+                return false;
+            }
+
+            if (hidden != this.doms[i]) {
+                this.setDomain(i, hidden);
+            }
+        }
+
+        this.freeSize = 0;
+
+        // Collect cells that still have a choice.
+        for (int i = 0; i < n; i++) {
+            if (Domain.size(this.doms[i]) > 1) {
+                this.free[this.freeSize++] = i;
+            }
+        }
+
+        // Look for naked subsets of increasing size.
+        for (int k = 2; k <= this.maxSubset && 2 * k <= this.freeSize; k++) {
+            if (!this.findSubsets(0, k, 0, 0, 0, n)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Searches for naked subsets of a given size among cells with a choice,
+     * adding one cell at a time. When a subset is found, its values are
+     * removed from every other cell of the constraint.
+     * 
+     * @param start position in the list of free cells to continue from.
+     * @param k size of the subsets to find.
+     * @param size number of cells picked so far.
+     * @param picked bit mask of picked cells.
+     * @param union values of the picked cells.
+     * @param n number of cells in the constraint.
+     * @return false if a subset left a cell with an empty domain.
+     */
+    private boolean findSubsets(int start, int k, int size, int picked, int union, int n) {
+        // Check a complete subset.
+        if (size == k) {
+            if (Domain.size(union) != k) {
+                return true;
+            }
+
+            // Remove the subset's values from every other cell.
+            for (int i = 0; i < n; i++) {
+                if ((picked & (1 << i)) != 0 || (this.doms[i] & union) == 0) {
+                    continue;
+                }
+
+                if ((this.doms[i] & ~union) == 0) {
+                    return false;
+                }
+                this.setDomain(i, this.doms[i] & ~union);
+            }
+            return true;
+        }
+
+        // Try every remaining free cell as the next one.
+        for (int j = start; j <= this.freeSize - (k - size); j++) {
+            int i = this.free[j];
+            int next = union | this.doms[i];
+
+            // A subset can't hold more values than cells.
+            if (Domain.size(this.doms[i]) < 2 || Domain.size(next) > k) {
+                continue;
+            }
+
+            if (!this.findSubsets(j + 1, k, size + 1, picked | (1 << i), next, n)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies cells and domains of a constraint into the buffers.
+     * 
+     * @param constraint to load.
+     */
+    private void load(Constraint constraint) {
+        int n = constraint.getCellsSize();
+
+        // Grow buffers for bigger constraints.
+        if (this.doms.length < n) {
+            this.cells = new Cell[n];
+            this.doms = new int[n];
+            this.free = new int[n];
+        }
+
+        for (int i = 0; i < n; i++) {
+            this.cells[i] = constraint.getCellAt(i);
+            this.doms[i] = this.cells[i].getDomain();
+        }
+    }
+
+    /**
+     * Sets the domain of a cell in the constraint, through the trail if
+     * changes are tracked.
+     * 
+     * @param i position of the cell in the constraint.
+     * @param domain mask to set.
+     */
+    private void setDomain(int i, int domain) {
+        this.doms[i] = domain;
+
+        if (this.trail != null) {
+            this.trail.setDomain(this.cells[i], domain);
+        } else {
+            this.cells[i].setDomain(domain);
+        }
+    }
+}
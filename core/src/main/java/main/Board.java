@@ -0,0 +1,98 @@
+package main;
+
+/**
+ * Holds the state of every cell of a puzzle in flat arrays: values in a 
+ * byte array, and domains as bit masks (see Domain) in an int array. Cells 
+ * of a CSP are views into its board, so the whole state of a puzzle can be 
+ * copied with two array copies.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class Board {
+    private byte[] vals;
+    private int[] domains;
+
+    /**
+     * Constructor for an empty board.
+     * 
+     * @param size number of cells.
+     */
+    public Board(int size) {
+        this.vals = new byte[size];
+        this.domains = new int[size];
+    }
+
+    /**
+     * Gets the number of cells on the board.
+     * 
+     * @return number of cells.
+     */
+    public int size() {
+        return this.vals.length;
+    }
+
+    /**
+     * Gets the value of a cell.
+     * 
+     * @param i position of the cell.
+     * @return value of the cell, 0 for empty.
+     */
+    public int getVal(int i) {
+        return this.vals[i];
+    }
+
+    /**
+     * Sets the value of a cell.
+     * 
+     * @param i position of the cell.
+     * @param val of the cell, 0 for empty.
+     */
+    public void setVal(int i, int val) {
+        this.vals[i] = (byte) val;
+    }
+
+    /**
+     * Gets the domain of a cell.
+     * 
+     * @param i position of the cell.
+     * @return domain mask of the cell.
+     */
+    public int getDomain(int i) {
+        return this.domains[i];
+    }
+
+    /**
+     * Sets the domain of a cell.
+     * 
+     * @param i position of the cell.
+     * @param domain mask to set.
+     */
+    public void setDomain(int i, int domain) {
+        this.domains[i] = domain;
+    }
+
+    /**
+     * Makes a copy of the board.
+     * 
+     * @return copy of the board.
+     */
+    public Board copy() {
+        Board copy = new Board(this.size());
+
+        copy.copyFrom(this);
+
+        return copy;
+    }
+
+    /**
+     * Overwrites the state of every cell with the state of another board of 
+     * the same size.
+     * 
+     * @param other board to copy from.
+     */
+    public void copyFrom(Board other) {
+        System.arraycopy(other.vals, 0, this.vals, 0, this.vals.length);
+        System.arraycopy(other.domains, 0, this.domains, 0, this.domains.length);
+    }
+}
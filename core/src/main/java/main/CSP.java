@@ -0,0 +1,563 @@
+package main;
+
+import java.util.ArrayList;
+
+/**
+ * Constructs a data structure for a CSP problem, specifically, sudoku puzzle. 
+ * It holds a list of cells (variables) and a list of constraints for the 
+ * puzzle, as well as an index of constraints and peers of every cell that is 
+ * built once when the puzzle is created. The state of the cells is kept on a 
+ * flat board, and the cells are views into it. The size of a classic board 
+ * follows from the number of cells: N^4 cells make an N^2 x N^2 board of 
+ * N x N squares, with values from 1 to N^2. Multi-grid puzzles, such as 
+ * triple and samurai, are one graph over the cells of every grid, laid out 
+ * by a Layout, with shared squares sharing their cells and constraints. 
+ * Killer puzzles add the "sum" constraints of their cages. Most methods are 
+ * getters and setters for data manipulation, as well as methods for 
+ * constraint construction.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class CSP {
+    public static final int MIN_SIDE = 9;
+    public static final int MAX_SIDE = 25;
+
+    private String type;
+    private String id;
+    private Layout layout;
+    private int side;
+    private int sqrSize;
+    private Board board;
+    private ArrayList<Cell> cells;
+    private ArrayList<Constraint> constraints;
+    private int[][] cellConstraints;
+    private int[][] peers;
+    private boolean sums;
+
+    /**
+     * Constructor initializing variabels.
+     * 
+     * @param type of the puzzle.
+     * @param id of the puzzle.
+     * @param cells in the puzzle.
+     */
+    public CSP(String type, String id, ArrayList<Cell> cells) {
+        this(type, id, cells, new ArrayList<Constraint>());
+    }
+
+    /**
+     * Constructor for a puzzle with extra constraints over its cells, such 
+     * as the cages of a killer puzzle.
+     * 
+     * @param type of the puzzle.
+     * @param id of the puzzle.
+     * @param cells in the puzzle.
+     * @param extra constraints over the cells, added after the squares.
+     */
+    public CSP(String type, String id, ArrayList<Cell> cells, ArrayList<Constraint> extra) {
+        this(type, id, cells, extra, Layout.single(sideOf(cells.size())));
+    }
+
+    /**
+     * Constructor for a puzzle of several grids.
+     * 
+     * @param type of the puzzle.
+     * @param id of the puzzle.
+     * @param cells in the puzzle, in the order of the layout.
+     * @param layout of the grids.
+     */
+    public CSP(String type, String id, ArrayList<Cell> cells, Layout layout) {
+        this(type, id, cells, new ArrayList<Constraint>(), layout);
+    }
+
+    /**
+     * Constructor for a puzzle of several grids, with extra constraints over 
+     * its cells.
+     * 
+     * @param type of the puzzle.
+     * @param id of the puzzle.
+     * @param cells in the puzzle, in the order of the layout.
+     * @param extra constraints over the cells, added after the squares.
+     * @param layout of the grids.
+     * @throws IllegalArgumentException if the layout has a different number 
+     *         of cells.
+     */
+    public CSP(String type, String id, ArrayList<Cell> cells, ArrayList<Constraint> extra,
+            Layout layout) {
+        if (layout.size() != cells.size()) {
+            throw new IllegalArgumentException("Layout has " + layout.size() + " cells, found " 
+                    + cells.size());
+        }
+
+        this.type = type;
+        this.id = id;
+        this.layout = layout;
+        this.side = layout.getSide();
+        this.sqrSize = layout.getSqrSize();
+        this.cells = cells;
+        this.board = new Board(cells.size());
+        this.constraints = this.createConstraints();
+        this.constraints.addAll(extra);
+        this.indexCells();
+    }
+
+    /**
+     * Constructor for a puzzle whose state is already on a board. Cells are 
+     * created as views of the board.
+     * 
+     * @param type of the puzzle.
+     * @param id of the puzzle.
+     * @param board holding the values and domains of the cells.
+     */
+    public CSP(String type, String id, Board board) {
+        this(type, id, board, new ArrayList<Constraint>(), Layout.single(sideOf(board.size())));
+    }
+
+    /**
+     * Constructor for a puzzle of several grids, or with extra constraints, 
+     * whose state is already on a board. Extra constraints may be over any 
+     * cells with the right indexes, such as views of the board, and are 
+     * rebuilt over the cells of the puzzle.
+     * 
+     * @param type of the puzzle.
+     * @param id of the puzzle.
+     * @param board holding the values and domains of the cells, in the 
+     *        order of the layout.
+     * @param extra constraints over the cells, added after the squares.
+     * @param layout of the grids.
+     * @throws IllegalArgumentException if the layout has a different number 
+     *         of cells.
+     */
+    public CSP(String type, String id, Board board, ArrayList<Constraint> extra, Layout layout) {
+        if (layout.size() != board.size()) {
+            throw new IllegalArgumentException("Layout has " + layout.size() + " cells, found " 
+                    + board.size());
+        }
+
+        this.type = type;
+        this.id = id;
+        this.layout = layout;
+        this.side = layout.getSide();
+        this.sqrSize = layout.getSqrSize();
+        this.board = board;
+        this.cells = new ArrayList<Cell>(board.size());
+
+        // View every position of the board.
+        for (int i = 0; i < board.size(); i++) {
+            this.cells.add(new Cell(board, i));
+        }
+        this.constraints = this.createConstraints();
+
+        // Rebuild every extra constraint over the cells.
+        for (Constraint constraint : extra) {
+            this.constraints.add(this.rebuild(constraint));
+        }
+        this.indexCells();
+    }
+
+    /**
+     * Constructor for a puzzle with the structure of another one over a new 
+     * board. Cells and constraints are rebuilt over the board, and the 
+     * index, which never changes, is shared.
+     * 
+     * @param other puzzle to take the structure from.
+     * @param id of the puzzle.
+     * @param board holding the values and domains of the cells.
+     */
+    private CSP(CSP other, String id, Board board) {
+        this.type = other.type;
+        this.id = id;
+        this.layout = other.layout;
+        this.side = other.side;
+        this.sqrSize = other.sqrSize;
+        this.board = board;
+        this.cells = new ArrayList<Cell>(this.board.size());
+        this.constraints = new ArrayList<Constraint>(other.constraints.size());
+        this.cellConstraints = other.cellConstraints;
+        this.peers = other.peers;
+        this.sums = other.sums;
+
+        // View every position of the new board.
+        for (int i = 0; i < this.board.size(); i++) {
+            this.cells.add(new Cell(this.board, i));
+        }
+
+        // Rebuild every constraint over the new cells.
+        for (Constraint constraint : other.constraints) {
+            this.constraints.add(this.rebuild(constraint));
+        }
+    }
+
+    /**
+     * Rebuilds a constraint over the cells of this puzzle, taking the cells 
+     * with the same indexes.
+     * 
+     * @param constraint to rebuild.
+     * @return constraint of the same type and sum over the cells.
+     */
+    private Constraint rebuild(Constraint constraint) {
+        Constraint copy = new Constraint(constraint.getType(), constraint.getSum());
+
+        // Every cell of the constraint.
+        for (int j = 0; j < constraint.getCellsSize(); j++) {
+            copy.cellsAdd(this.cells.get(constraint.getCellAt(j).getIndex()));
+        }
+        return copy;
+    }
+
+    /**
+     * Gets the side of a board with a number of cells.
+     * 
+     * @param cells number of cells of the board.
+     * @return number of cells in a row, col or square.
+     * @throws IllegalArgumentException if the cells don't make an N^2 x N^2 
+     *         board, or the side is outside MIN_SIDE to MAX_SIDE.
+     */
+    public static int sideOf(int cells) {
+        int side = (int) Math.round(Math.sqrt(cells));
+
+        if (side * side != cells || sqrSizeOf(side) == 0 || side < MIN_SIDE || side > MAX_SIDE) {
+            throw new IllegalArgumentException("No sudoku board has " + cells + " cells");
+        }
+        return side;
+    }
+
+    /**
+     * Gets the side of the squares of a board.
+     * 
+     * @param side of the board.
+     * @return side of a square, 0 if the side of the board isn't a square.
+     */
+    private static int sqrSizeOf(int side) {
+        int sqrSize = (int) Math.round(Math.sqrt(side));
+
+        return sqrSize * sqrSize == side ? sqrSize : 0;
+    }
+
+    /**
+     * Makes an independent copy of the puzzle, with the current values and 
+     * domains of the cells, so the copy can be solved on another thread.
+     * 
+     * @return copy of the puzzle.
+     */
+    public CSP copy() {
+        return new CSP(this, this.id, this.board.copy());
+    }
+
+    /**
+     * Makes a puzzle of the same type, layout and constraints over another 
+     * board. The index is shared instead of built again, so a reader of 
+     * many puzzles of one size builds it once.
+     * 
+     * @param id of the new puzzle.
+     * @param board holding the values and domains of the new puzzle.
+     * @return puzzle over the board.
+     * @throws IllegalArgumentException if the board has a different number 
+     *         of cells.
+     */
+    public CSP withBoard(String id, Board board) {
+        if (board.size() != this.board.size()) {
+            throw new IllegalArgumentException("Expected " + this.board.size() + " cells, found " 
+                    + board.size());
+        }
+        return new CSP(this, id, board);
+    }
+
+    /**
+     * Gets the board holding the state of the cells.
+     * 
+     * @return board of the puzzle.
+     */
+    public Board getBoard() {
+        return this.board;
+    }
+
+    /**
+     * Gets the layout of the grids of the puzzle.
+     * 
+     * @return layout of the puzzle.
+     */
+    public Layout getLayout() {
+        return this.layout;
+    }
+
+    /**
+     * Gets the side of the board, or of every grid of a multi-grid puzzle, 
+     * which is also the largest value of a cell.
+     * 
+     * @return number of cells in a row, col or square.
+     */
+    public int getSide() {
+        return this.side;
+    }
+
+    /**
+     * Gets the side of the squares of the board.
+     * 
+     * @return number of rows and cols of a square.
+     */
+    public int getSqrSize() {
+        return this.sqrSize;
+    }
+
+    /**
+     * Gets the type of the puzzle.
+     * 
+     * @return type of the puzzle.
+     */
+    public String getType() {
+        return this.type;
+    }
+
+    /**
+     * Gets the id of the puzzle.
+     * 
+     * @return id of the puzzle.
+     */
+    public String getId() {
+        return this.id;
+    }
+
+    /**
+     * Gets the cells (variables) of the puzzle.
+     * 
+     * @return cells of the puzzle.
+     */
+    public ArrayList<Cell> getCells() {
+        return this.cells;
+    }
+
+    /**
+     * Gets the cell at i-th position.
+     * 
+     * @param i position of a cell.
+     * @return cell at i-th position.
+     */
+    public Cell getCellAt(int i) {
+        return this.cells.get(i);
+    }
+
+    /**
+     * Gets a constriant at i-th position.
+     * @param i position of a constraint.
+     * @return constrant at i-th position.
+     */
+    public Constraint getConstraintAt(int i) {
+        return this.constraints.get(i);
+    }
+    /**
+     * Gets the constraints of the puzzle.
+     * 
+     * @return constraints of the puzzle.
+     */
+    public ArrayList<Constraint> getConstraints() {
+        return this.constraints;
+    }
+
+    /**
+     * Checks if the puzzle has "sum" constraints.
+     * 
+     * @return true if any constraint is a sum.
+     */
+    public boolean hasSums() {
+        return this.sums;
+    }
+
+    /**
+     * Gets positions of the constraints that contain a cell, in ascending 
+     * order.
+     * 
+     * @param i position of a cell.
+     * @return positions of the cell's constraints.
+     */
+    public int[] getCellConstraints(int i) {
+        return this.cellConstraints[i];
+    }
+
+    /**
+     * Gets positions of the peers of a cell, every other cell that shares a 
+     * constraint with it. Each peer is listed once.
+     * 
+     * @param i position of a cell.
+     * @return positions of the cell's peers.
+     */
+    public int[] getPeers(int i) {
+        return this.peers[i];
+    }
+
+    /**
+     * Creates constraints of the puzzle from the cells. Constraints are
+     * ordered as: rows first, cols second, squares last.
+     * 
+     * @return lilst of constraints.
+     */
+    private ArrayList<Constraint> createConstraints() {
+        ArrayList<Constraint> constraints = new ArrayList<Constraint>();
+
+        this.addRowConstraints(constraints);
+
+        this.addColConstraints(constraints);
+
+        this.addSqrConstraints(constraints);
+
+        return constraints;
+    }
+
+    /**
+     * Adds row constraints to the CSP, grid by grid.
+     * 
+     * @param constraints for each row of the puzzle.
+     */
+    private void addRowConstraints(ArrayList<Constraint> constraints) {
+
+        int n = this.side;
+
+        // Iterate through grids and their rows.
+        for (int grid = 0; grid < this.layout.getGrids(); grid++) {
+            for (int row = 0; row < n; row++) {
+                Constraint constraint = new Constraint("alldif");
+
+                // Add all cells in the row.
+                for (int col = 0; col < n; col++) {
+                    int index = this.layout.getIndex(grid, row, col);
+                    constraint.cellsAdd(this.cells.get(index));
+                }
+                constraints.add(constraint);
+            }
+        }
+    }
+
+    /**
+     * Adds col constraints to the CSP, grid by grid.
+     * 
+     * @param constraints for each col of the puzzle.
+     */
+    private void addColConstraints(ArrayList<Constraint> constraints) {
+
+        int n = this.side;
+
+        // Iterate through grids and their columns.
+        for (int grid = 0; grid < this.layout.getGrids(); grid++) {
+            for (int col = 0; col < n; col++) {
+                Constraint constraint = new Constraint("alldif");
+
+                // Add all cells in the col.
+                for (int row = 0; row < n; row++) {
+                    int index = this.layout.getIndex(grid, row, col);
+                    constraint.cellsAdd(this.cells.get(index));
+                }
+                constraints.add(constraint);
+            }
+        }
+    }
+
+    /**
+     * Adds square constraints to the CSP, grid by grid. A square shared by 
+     * two grids is added once.
+     * 
+     * @param constraints for each square of the puzzle.
+     */
+    private void addSqrConstraints(ArrayList<Constraint> constraints) {
+
+        int n = this.side;
+        int s = this.sqrSize;
+        boolean[] added = new boolean[this.cells.size()];
+
+        // Iterate through grids.
+        for (int grid = 0; grid < this.layout.getGrids(); grid++) {
+            // Iterate through square rows.
+            for (int sqrR = 0; sqrR < n; sqrR += s) {
+                // Iterate through square cols.
+                for (int sqrC = 0; sqrC < n; sqrC += s) {
+                    int corner = this.layout.getIndex(grid, sqrR, sqrC);
+
+                    // Skip squares shared with an earlier grid.
+                    if (added[corner]) {
+                        continue;
+                    }
+                    added[corner] = true;
+
+                    Constraint constraint = new Constraint("alldif");
+
+                    // Iterate through each row in the seuqre.
+                    for (int r = 0; r < s; r++) {
+                        // Add all cells in the row of a square.
+                        for (int c = 0; c < s; c++) {
+                            int index = this.layout.getIndex(grid, sqrR + r, sqrC + c);
+                            constraint.cellsAdd(this.cells.get(index));
+                        }
+                    }
+                    constraints.add(constraint);
+                }
+            }
+        }
+    }
+
+    /**
+     * Attaches the cells to the board and builds the constraint and peer 
+     * index of every cell, so that solvers don't have to scan the constraint 
+     * list.
+     */
+    private void indexCells() {
+        int n = this.cells.size();
+        int[] counts = new int[n];
+
+        // Move every cell to its position on the board.
+        for (int i = 0; i < n; i++) {
+            this.cells.get(i).attach(this.board, i);
+        }
+
+        // Count constraints of every cell, and look for sums.
+        for (Constraint constraint : this.constraints) {
+            this.sums |= constraint.getType().equals("sum");
+
+            for (int j = 0; j < constraint.getCellsSize(); j++) {
+                counts[constraint.getCellAt(j).getIndex()]++;
+            }
+        }
+
+        this.cellConstraints = new int[n][];
+
+        for (int i = 0; i < n; i++) {
+            this.cellConstraints[i] = new int[counts[i]];
+            counts[i] = 0;
+        }
+
+        // Fill constraints of every cell, in constraint order.
+        for (int c = 0; c < this.constraints.size(); c++) {
+            Constraint constraint = this.constraints.get(c);
+
+            for (int j = 0; j < constraint.getCellsSize(); j++) {
+                int i = constraint.getCellAt(j).getIndex();
+                this.cellConstraints[i][counts[i]++] = c;
+            }
+        }
+
+        this.peers = new int[n][];
+        int[] seen = new int[n];
+        int[] buffer = new int[n];
+
+        // Collect peers of every cell, skipping duplicates.
+        for (int i = 0; i < n; i++) {
+            int size = 0;
+
+            for (int c : this.cellConstraints[i]) {
+                Constraint constraint = this.constraints.get(c);
+
+                for (int j = 0; j < constraint.getCellsSize(); j++) {
+                    int peer = constraint.getCellAt(j).getIndex();
+
+                    // Skip the cell itself and peers already added.
+                    if (peer == i || seen[peer] == i + 1) {
+                        continue;
+                    }
+                    seen[peer] = i + 1;
+                    buffer[size++] = peer;
+                }
+            }
+            this.peers[i] = new int[size];
+            System.arraycopy(buffer, 0, this.peers[i], 0, size);
+        }
+    }
+}
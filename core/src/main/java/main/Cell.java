@@ -0,0 +1,165 @@
+package main;
+
+/**
+ * Constructs the Cell datatype that represents the variable of the CSP. 
+ * It has a value field, as well as domain of possible values stored as a bit 
+ * mask (see Domain). A new cell keeps its state on a board of its own, and 
+ * once it is attached to the board of a puzzle, it is a view of one position 
+ * on that board. Methods are simple getters an dsetters that allow for 
+ * retrieval and manipulation of data in the domain.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class Cell {
+    private Board board;
+    private int index;
+
+    /**
+     * Constructor initializing variables, for a cell of a 9x9 puzzle.
+     * 
+     * @param val that cell holds, 0 for empty.
+     * @param r row of the cell.
+     * @param c col of the cell.
+     */
+    public Cell (int val, int r, int c) {
+        this(val, r, c, 9);
+    }
+
+    /**
+     * Constructor initializing variables.
+     * 
+     * @param val that cell holds, 0 for empty.
+     * @param r row of the cell.
+     * @param c col of the cell.
+     * @param maxVal largest value of a cell in the puzzle.
+     */
+    public Cell (int val, int r, int c, int maxVal) {
+        this.board = new Board(1);
+        this.board.setVal(0, val);
+
+        // Check if cell is empty.
+        if (val == 0) {
+            this.board.setDomain(0, Domain.full(maxVal));
+        } else {
+            this.board.setDomain(0, Domain.of(val));
+        }
+    }
+
+    /**
+     * Constructor for a view of a position on a board.
+     * 
+     * @param board holding the state of the cell.
+     * @param index of the cell on the board.
+     */
+    public Cell(Board board, int index) {
+        this.board = board;
+        this.index = index;
+    }
+
+    /**
+     * Moves the state of the cell to a position on a board. From then on, 
+     * the cell reads and writes that position.
+     * 
+     * @param board to hold the state of the cell.
+     * @param index of the cell on the board.
+     */
+    public void attach(Board board, int index) {
+        board.setVal(index, this.getVal());
+        board.setDomain(index, this.getDomain());
+
+        this.board = board;
+        this.index = index;
+    }
+
+    /**
+     * Gets the value of the cell.
+     * 
+     * @return value of the cell.
+     */
+    public int getVal() {
+        return this.board.getVal(this.index);
+    }
+
+    /**
+     * Sets the value of the cell.
+     * 
+     * @param val of the cell.
+     */
+    public void setVal(int val) {
+        this.board.setVal(this.index, val);
+    }
+
+    /**
+     * Gets the index of the cell in its puzzle.
+     * 
+     * @return index of the cell.
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Gets the domain of the cell.
+     * 
+     * @return domain mask of the cell.
+     */
+    public int getDomain() {
+        return this.board.getDomain(this.index);
+    }
+
+    /**
+     * Gets the size of the domain.
+     * 
+     * @return size of the domain.
+     */
+    public int getDomainSize() {
+        return Domain.size(this.getDomain());
+    }
+
+    /**
+     * Adds a value to the domain.
+     * 
+     * @param val to be added.
+     */
+    public void domainAdd(int val) {
+        this.setDomain(this.getDomain() | Domain.of(val));
+    }
+
+    /**
+     * Removes a value from the domain.
+     * 
+     * @param val to be removed.
+     */
+    public void domainRemove(int val) {
+        this.setDomain(this.getDomain() & ~Domain.of(val));
+    }
+
+    /**
+     * Checks if domain contains a value.
+     * 
+     * @param val to check.
+     * @return true if value is in the domain.
+     */
+    public boolean domainContains(int val) {
+        return Domain.contains(this.getDomain(), val);
+    }
+
+    /**
+     * Collapses the doomain to a single value.
+     * 
+     * @param val only value in the domain.
+     */
+    public void domainCollapse(int val) {
+        this.setDomain(Domain.of(val));
+    }
+
+    /**
+     * Sets the domain.
+     * 
+     * @param domain mask to set.
+     */
+    public void setDomain(int domain) {
+        this.board.setDomain(this.index, domain);
+    }
+}
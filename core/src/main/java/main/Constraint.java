@@ -6,13 +6,15 @@ import java.util.ArrayList;
  * Constructs the constraint data type for the Sudoku puzzle. Constraints can 
  * be of two types: “alldiff” for most sudoku constraints, and “sum” for 
  * killer sudoku. Constraint contains a list of cells that participate in this 
- * constraint. Methods consist of getters and setters for data manipulation.
+ * constraint, and the sum of their values for a “sum” constraint. Methods 
+ * consist of getters and setters for data manipulation.
  * 
  * @author  Max Turkot
- * @version 20/11/2022
+ * @version 18/10/2026
  */
 public class Constraint {
     private String type;
+    private int sum;
     private ArrayList<Cell> cells;
 
     /**
@@ -21,7 +23,19 @@ public class Constraint {
      * @param type of the constraint.
      */
     public Constraint(String type) {
+        this(type, 0);
+    }
+
+    /**
+     * Constructor initializing variables, with the sum of a “sum” 
+     * constraint.
+     * 
+     * @param type of the constraint.
+     * @param sum of the values of the cells.
+     */
+    public Constraint(String type, int sum) {
         this.type = type;
+        this.sum = sum;
         this.cells = new ArrayList<Cell>();
     }
 
@@ -33,6 +47,15 @@ public class Constraint {
         return this.type;
     }
 
+    /**
+     * Gets the sum of the values of the cells, for a “sum” constraint.
+     * 
+     * @return sum of the constraint, 0 for other types.
+     */
+    public int getSum() {
+        return this.sum;
+    }
+
     /**
      * Adds a cell to the constraint.
      * 
@@ -0,0 +1,327 @@
+package main;
+
+import java.util.ArrayList;
+
+/**
+ * Solves a puzzle as an exact cover problem with Knuth's Dancing Links
+ * (Algorithm X). The CSP is compiled into a matrix with a column for every
+ * cell and for every value of every "alldif" constraint, and a row for every
+ * value left in the domain of every cell. A row covers its cell column and
+ * the value column of each of the cell's constraints. The matrix is held in
+ * flat int arrays of links, so covering and uncovering allocate nothing.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class DancingLinks {
+    private static final int ROOT = 0;
+
+    private int[] left;
+    private int[] right;
+    private int[] up;
+    private int[] down;
+    private int[] col;
+    private int[] row;
+    private int[] size;
+    private int[] rowCell;
+    private int[] rowVal;
+    private int[] solution;
+    private int[] first;
+    private long limit = 1;
+    private long solutions;
+    private int nodes;
+    private SolveStats stats;
+    private volatile boolean cancelled = false;
+
+    /**
+     * Asks a running search to stop. The search checks the request before 
+     * every step and returns with no solution.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * Sets the number of solutions after which the search stops. Above 1, 
+     * the search goes on past a solution to count them.
+     * 
+     * @param limit number of solutions to stop at.
+     */
+    public void setLimit(long limit) {
+        this.limit = Math.max(limit, 1);
+    }
+
+    /**
+     * Gets the number of solutions found by the last solve, at most the 
+     * limit.
+     * 
+     * @return number of solutions found.
+     */
+    public long getSolutions() {
+        return this.solutions;
+    }
+
+    /**
+     * Solves the puzzle. Values of the first solution are written to the 
+     * cells.
+     * Only puzzles made of "alldif" constraints can be compiled. A cancelled 
+     * search returns null.
+     * 
+     * @param csp generic puzzle structure.
+     * @param stats to count the search in.
+     * @return list of cells of a solved puzzle, null if there is none.
+     */
+    public ArrayList<Cell> solve(CSP csp, SolveStats stats) {
+        // Give up on constraints that are not an exact cover.
+        for (Constraint constraint : csp.getConstraints()) {
+            if (!constraint.getType().equals("alldif")) {
+                System.out.println("Dancing links only solves alldif constraints.");
+                return null;
+            }
+        }
+
+        this.build(csp);
+        this.stats = stats;
+        this.solutions = 0;
+        this.search(0);
+
+        if (this.solutions == 0 || this.cancelled) {
+            return null;
+        }
+
+        // Write values of the chosen rows to the cells.
+        for (int k = 0; k < csp.getCells().size(); k++) {
+            int r = this.first[k];
+            Cell cell = csp.getCellAt(this.rowCell[r]);
+
+            cell.setVal(this.rowVal[r]);
+            cell.domainCollapse(this.rowVal[r]);
+        }
+        return csp.getCells();
+    }
+
+    /**
+     * Recursive Algorithm X. Picks the column with the fewest rows, and
+     * tries every row in it, covering the columns the row satisfies. Rows 
+     * of the first solution are saved, and the search stops at the limit.
+     * 
+     * @param k number of rows chosen so far.
+     * @return true if the limit of solutions was reached.
+     */
+    private boolean search(int k) {
+        this.stats.addCall(k);
+
+        // Stop if the search was cancelled.
+        if (this.cancelled) {
+            return false;
+        }
+
+        // Every column covered, solution found.
+        if (this.right[ROOT] == ROOT) {
+            this.solutions++;
+
+            if (this.solutions == 1) {
+                System.arraycopy(this.solution, 0, this.first, 0, k);
+            }
+            return this.solutions >= this.limit;
+        }
+
+        int c = this.chooseColumn();
+
+        // A column nothing can cover is a dead end.
+        if (this.size[c] == 0) {
+            return false;
+        }
+
+        this.cover(c);
+
+        // For every row that covers the column.
+        for (int r = this.down[c]; r != c; r = this.down[r]) {
+            this.stats.addNode();
+            this.solution[k] = this.row[r];
+
+            for (int j = this.right[r]; j != r; j = this.right[j]) {
+                this.cover(this.col[j]);
+            }
+
+            if (this.search(k + 1)) {
+                return true;
+            }
+            this.stats.addBacktrack();
+
+            for (int j = this.left[r]; j != r; j = this.left[j]) {
+                this.uncover(this.col[j]);
+            }
+        }
+
+        this.uncover(c);
+
+        return false;
+    }
+
+    /**
+     * Picks the column with the fewest rows left.
+     * 
+     * @return header node of the column.
+     */
+    private int chooseColumn() {
+        int best = this.right[ROOT];
+
+        for (int c = this.right[best]; c != ROOT; c = this.right[c]) {
+            if (this.size[c] < this.size[best]) {
+                best = c;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Removes a column from the header list, and every row that covers it
+     * from the other columns.
+     * 
+     * @param c header node of the column.
+     */
+    private void cover(int c) {
+        this.right[this.left[c]] = this.right[c];
+        this.left[this.right[c]] = this.left[c];
+
+        for (int i = this.down[c]; i != c; i = this.down[i]) {
+            for (int j = this.right[i]; j != i; j = this.right[j]) {
+                this.down[this.up[j]] = this.down[j];
+                this.up[this.down[j]] = this.up[j];
+                this.size[this.col[j]]--;
+            }
+        }
+    }
+
+    /**
+     * Puts a covered column back, in the reverse order of cover().
+     * 
+     * @param c header node of the column.
+     */
+    private void uncover(int c) {
+        for (int i = this.up[c]; i != c; i = this.up[i]) {
+            for (int j = this.left[i]; j != i; j = this.left[j]) {
+                this.size[this.col[j]]++;
+                this.down[this.up[j]] = j;
+                this.up[this.down[j]] = j;
+            }
+        }
+
+        this.right[this.left[c]] = c;
+        this.left[this.right[c]] = c;
+    }
+
+    /**
+     * Compiles the puzzle into the exact cover matrix. Value columns of a
+     * constraint with fewer cells than values are secondary: they may be
+     * covered at most once, but are never picked by the search.
+     * 
+     * @param csp generic puzzle structure.
+     */
+    private void build(CSP csp) {
+        int n = csp.getCells().size();
+        int nConstraints = csp.getConstraints().size();
+        int all = 0;
+        int maxNodes = 0;
+
+        // Find the largest value and the number of nodes needed.
+        for (int i = 0; i < n; i++) {
+            int dom = csp.getBoard().getDomain(i);
+
+            all |= dom;
+            maxNodes += Domain.size(dom) * (1 + csp.getCellConstraints(i).length);
+        }
+
+        int nVals = 32 - Integer.numberOfLeadingZeros(all);
+        int nCols = n + nConstraints * nVals;
+        int total = 1 + nCols + maxNodes;
+
+        this.left = new int[total];
+        this.right = new int[total];
+        this.up = new int[total];
+        this.down = new int[total];
+        this.col = new int[total];
+        this.row = new int[total];
+        this.size = new int[1 + nCols];
+        this.rowCell = new int[n * nVals];
+        this.rowVal = new int[n * nVals];
+        this.solution = new int[n];
+        this.first = new int[n];
+
+        this.left[ROOT] = ROOT;
+        this.right[ROOT] = ROOT;
+
+        // Add column headers, primary ones to the header list.
+        for (int c = 1; c <= nCols; c++) {
+            this.up[c] = c;
+            this.down[c] = c;
+            this.col[c] = c;
+
+            boolean primary = c <= n
+                    || csp.getConstraintAt((c - n - 1) / nVals).getCellsSize() == nVals;
+
+            if (primary) {
+                this.left[c] = this.left[ROOT];
+                this.right[c] = ROOT;
+                this.right[this.left[ROOT]] = c;
+                this.left[ROOT] = c;
+            } else {
+                this.left[c] = c;
+                this.right[c] = c;
+            }
+        }
+
+        this.nodes = 1 + nCols;
+        int r = 0;
+
+        // Add a row for every value in the domain of every cell.
+        for (int i = 0; i < n; i++) {
+            for (int dom = csp.getBoard().getDomain(i); dom != 0; dom = Domain.dropLowest(dom)) {
+                int val = Domain.lowest(dom);
+                int first = this.addNode(1 + i, r, -1);
+
+                for (int c : csp.getCellConstraints(i)) {
+                    this.addNode(1 + n + c * nVals + val - 1, r, first);
+                }
+                this.rowCell[r] = i;
+                this.rowVal[r] = val;
+                r++;
+            }
+        }
+    }
+
+    /**
+     * Adds a node to the bottom of a column, and to the end of a row.
+     * 
+     * @param c header node of the column.
+     * @param r number of the row.
+     * @param first first node of the row, -1 if this is the first node.
+     * @return the new node.
+     */
+    private int addNode(int c, int r, int first) {
+        int x = this.nodes++;
+
+        this.col[x] = c;
+        this.row[x] = r;
+
+        // Link into the column.
+        this.up[x] = this.up[c];
+        this.down[x] = c;
+        this.down[this.up[c]] = x;
+        this.up[c] = x;
+        this.size[c]++;
+
+        // Link into the row.
+        if (first == -1) {
+            this.left[x] = x;
+            this.right[x] = x;
+        } else {
+            this.left[x] = this.left[first];
+            this.right[x] = first;
+            this.right[this.left[first]] = x;
+            this.left[first] = x;
+        }
+        return x;
+    }
+}
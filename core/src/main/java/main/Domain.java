@@ -0,0 +1,81 @@
+package main;
+
+/**
+ * Helper methods for the primitive domain representation of a cell. A domain
+ * is an int bit mask where bit (val - 1) is set if val is a possible value of
+ * the cell. Values are iterated lowest first by taking the lowest set bit and
+ * clearing it, so no domain operation allocates.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public final class Domain {
+
+    /**
+     * Private constructor, class only holds static helpers.
+     */
+    private Domain() {
+    }
+
+    /**
+     * Creates a domain holding every value from 1 to n.
+     * 
+     * @param n largest value in the domain.
+     * @return full domain mask.
+     */
+    public static int full(int n) {
+        return (1 << n) - 1;
+    }
+
+    /**
+     * Creates a domain holding a single value.
+     * 
+     * @param val only value in the domain.
+     * @return single value domain mask.
+     */
+    public static int of(int val) {
+        return 1 << (val - 1);
+    }
+
+    /**
+     * Gets the number of values in the domain.
+     * 
+     * @param dom domain mask.
+     * @return size of the domain.
+     */
+    public static int size(int dom) {
+        return Integer.bitCount(dom);
+    }
+
+    /**
+     * Checks if the domain contains a value.
+     * 
+     * @param dom domain mask.
+     * @param val to check.
+     * @return true if value is in the domain.
+     */
+    public static boolean contains(int dom, int val) {
+        return (dom & of(val)) != 0;
+    }
+
+    /**
+     * Gets the lowest value in a non-empty domain.
+     * 
+     * @param dom domain mask.
+     * @return lowest value in the domain.
+     */
+    public static int lowest(int dom) {
+        return Integer.numberOfTrailingZeros(dom) + 1;
+    }
+
+    /**
+     * Removes the lowest value from the domain. Used to step through values
+     * of a domain together with lowest().
+     * 
+     * @param dom domain mask.
+     * @return domain without its lowest value.
+     */
+    public static int dropLowest(int dom) {
+        return dom & (dom - 1);
+    }
+}
@@ -0,0 +1,257 @@
+package main;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Generates classic puzzles with exactly one solution, rated by how hard they
+ * are for the solver. A full grid is made by filling the squares on the
+ * diagonal, which don't constrain each other, with random permutations, and
+ * solving the rest. Clues are then removed in random order, each one only if
+ * the puzzle keeps a single solution, which Dancing Links checks by counting
+ * solutions up to 2. Puzzles are rated by the search of a reference
+ * configuration, forward checking with MRV and no all-different propagator,
+ * so puzzles it has to guess on rate harder. Every puzzle of a batch is made
+ * from its own seed, on the threads of a pool, so a batch doesn't depend on
+ * the number of threads.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class Generator {
+
+    /**
+     * Difficulty ratings, by the wrong guesses of the reference
+     * configuration. EASY puzzles take fewer than 4, MEDIUM ones fewer than
+     * 64, and HARD ones more. Minimal 9x9 puzzles split about 20/40/40.
+     */
+    public enum Difficulty {
+        EASY,
+        MEDIUM,
+        HARD
+    }
+
+    private static final long MEDIUM_BACKTRACKS = 4;
+    private static final long HARD_BACKTRACKS = 64;
+    private static final int MAX_ATTEMPTS = 1000;
+
+    private int side;
+    private int sqrSize;
+    private Difficulty difficulty;
+    private int minClues;
+    private ThreadLocal<Solver> solvers = ThreadLocal.withInitial(() -> {
+        Solver solver = new Solver();
+        solver.setMrv(true);
+        solver.setAllDiff(true);
+        solver.setBackend(Solver.Backend.DLX);
+        return solver;
+    });
+    private StatsCollector stats = new StatsCollector();
+
+    /**
+     * Constructor initializing variables.
+     * 
+     * @param side of the puzzles, 9, 16 or 25.
+     * @throws IllegalArgumentException if the side is not a square up to 25.
+     */
+    public Generator(int side) {
+        this.side = CSP.sideOf(side * side);
+        this.sqrSize = (int) Math.round(Math.sqrt(side));
+        this.minClues = side > 9 ? side * side / 2 : 0;
+    }
+
+    /**
+     * Sets the number of clues at which removing stops. Checking that a 
+     * nearly minimal puzzle is unique gets very slow on boards larger than 
+     * 9x9, so those keep half of their clues by default.
+     * 
+     * @param minClues number of clues to keep at least.
+     */
+    public void setMinClues(int minClues) {
+        this.minClues = minClues;
+    }
+
+    /**
+     * Sets the difficulty of the puzzles. Puzzles of other ratings are
+     * thrown away. Null takes the first puzzle of every seed.
+     * 
+     * @param difficulty of the puzzles, or null for any.
+     */
+    public void setDifficulty(Difficulty difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    /**
+     * Gets the summed rating metrics of every puzzle generated so far.
+     * 
+     * @return metrics of the rating solves.
+     */
+    public StatsCollector getStats() {
+        return this.stats;
+    }
+
+    /**
+     * Generates a batch of puzzles on the threads of a pool. Puzzle i is
+     * made from seed + i, and its id is i + 1.
+     * 
+     * @param pool to generate the puzzles on.
+     * @param count number of puzzles.
+     * @param seed of the batch.
+     * @return puzzles in id order.
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws ExecutionException if generating a puzzle failed.
+     */
+    public List<CSP> generate(ForkJoinPool pool, int count, long seed)
+            throws InterruptedException, ExecutionException {
+        return pool.submit(() -> IntStream.range(0, count).parallel()
+                .mapToObj(i -> this.generate(seed + i, String.valueOf(i + 1)))
+                .collect(Collectors.toList())).get();
+    }
+
+    /**
+     * Generates a puzzle of the set difficulty. Safe to call from many
+     * threads.
+     * 
+     * @param seed of the puzzle.
+     * @param id of the puzzle.
+     * @return puzzle with exactly one solution, cells holding the clues.
+     * @throws IllegalStateException if no puzzle of the difficulty was made.
+     */
+    public CSP generate(long seed, String id) {
+        SplittableRandom rnd = new SplittableRandom(seed);
+
+        // Make puzzles until one has the difficulty.
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            CSP puzzle = this.removeClues(this.fill(rnd, id), rnd);
+            SolveStats rating = this.rate(puzzle);
+
+            if (this.difficulty == null || difficultyOf(rating) == this.difficulty) {
+                this.stats.add(rating);
+                return puzzle;
+            }
+        }
+        throw new IllegalStateException("No " + this.difficulty + " puzzle in "
+                + MAX_ATTEMPTS + " attempts");
+    }
+
+    /**
+     * Rates a puzzle by solving a copy with the reference configuration.
+     * 
+     * @param csp puzzle to rate, not changed.
+     * @return metrics of the rating solve.
+     */
+    public SolveStats rate(CSP csp) {
+        Solver solver = new Solver();
+        solver.setMrv(true);
+        solver.solve(csp.copy(), false, true);
+
+        return solver.getStats();
+    }
+
+    /**
+     * Gets the difficulty of a rating.
+     * 
+     * @param rating metrics of the rating solve.
+     * @return difficulty of the rated puzzle.
+     */
+    public static Difficulty difficultyOf(SolveStats rating) {
+        if (rating.getBacktracks() >= HARD_BACKTRACKS) {
+            return Difficulty.HARD;
+        } else if (rating.getBacktracks() >= MEDIUM_BACKTRACKS) {
+            return Difficulty.MEDIUM;
+        }
+        return Difficulty.EASY;
+    }
+
+    /**
+     * Makes a random full grid. Squares on the diagonal share no row, col
+     * or square, so any permutation in each can be completed.
+     * 
+     * @param rnd random numbers of the puzzle.
+     * @param id of the puzzle.
+     * @return puzzle with every cell filled.
+     */
+    private CSP fill(SplittableRandom rnd, String id) {
+        int n = this.side;
+        Board board = new Board(n * n);
+        int[] perm = new int[n];
+
+        // Start with every cell empty.
+        for (int i = 0; i < n * n; i++) {
+            board.setDomain(i, Domain.full(n));
+        }
+
+        // A random permutation in every square on the diagonal.
+        for (int sqr = 0; sqr < n; sqr += this.sqrSize) {
+            this.shuffle(perm, rnd);
+
+            for (int k = 0; k < n; k++) {
+                int i = (sqr + k / this.sqrSize) * n + sqr + k % this.sqrSize;
+
+                board.setVal(i, perm[k]);
+                board.setDomain(i, Domain.of(perm[k]));
+            }
+        }
+
+        CSP csp = new CSP("classic", id, board);
+
+        if (this.solvers.get().solve(csp, false, true) == null) {
+            throw new IllegalStateException("Could not complete the grid of puzzle " + id);
+        }
+        return csp;
+    }
+
+    /**
+     * Removes clues in random order, keeping a clue only if the puzzle has
+     * more than one solution without it.
+     * 
+     * @param full puzzle with every cell filled.
+     * @param rnd random numbers of the puzzle.
+     * @return puzzle with exactly one solution.
+     */
+    private CSP removeClues(CSP full, SplittableRandom rnd) {
+        int n = this.side * this.side;
+        int[] order = new int[n];
+        int clues = n;
+        Solver solver = this.solvers.get();
+
+        this.shuffle(order, rnd);
+
+        // Try to remove every clue, down to the least number kept.
+        for (int k = 0; k < n && clues > this.minClues; k++) {
+            int i = order[k] - 1;
+            CSP trial = full.copy();
+
+            trial.getCellAt(i).setVal(0);
+            trial.getCellAt(i).setDomain(Domain.full(this.side));
+
+            // Keep the clue out if the solution is still unique.
+            if (solver.countSolutions(trial, false, true, 2) == 1) {
+                full.getCellAt(i).setVal(0);
+                full.getCellAt(i).setDomain(Domain.full(this.side));
+                clues--;
+            }
+        }
+        return full;
+    }
+
+    /**
+     * Fills an array with a random permutation of 1 to its length.
+     * 
+     * @param vals array to fill.
+     * @param rnd random numbers of the puzzle.
+     */
+    private void shuffle(int[] vals, SplittableRandom rnd) {
+        // Fisher-Yates, inserting values in order.
+        for (int k = 0; k < vals.length; k++) {
+            int j = rnd.nextInt(k + 1);
+
+            vals[k] = vals[j];
+            vals[j] = k + 1;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package main;
+
+/**
+ * Describes how the grids of a puzzle lie on a canvas. A classic puzzle is a 
+ * single grid, while multi-grid puzzles place several grids so that they 
+ * share squares: in a triple puzzle three grids overlap diagonally, in a 
+ * samurai puzzle four corner grids overlap a center grid. Every canvas 
+ * position covered by a grid is one cell of the puzzle, numbered in canvas 
+ * reading order, so grids that share a square share its cells.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class Layout {
+    private int side;
+    private int sqrSize;
+    private int[][] origins;
+    private int height;
+    private int width;
+    private int[] canvas;
+    private int[] rows;
+    private int[] cols;
+
+    /**
+     * Constructor initializing variables. Grid origins must lie on square 
+     * boundaries, so overlapping grids share whole squares.
+     * 
+     * @param side of every grid.
+     * @param origins row and col of the top left cell of every grid.
+     */
+    public Layout(int side, int[][] origins) {
+        this.side = side;
+        this.sqrSize = (int) Math.round(Math.sqrt(side));
+        this.origins = origins;
+
+        // Find the size of the canvas.
+        for (int[] origin : origins) {
+            this.height = Math.max(this.height, origin[0] + side);
+            this.width = Math.max(this.width, origin[1] + side);
+        }
+
+        this.canvas = new int[this.height * this.width];
+
+        // Start with every position uncovered.
+        for (int p = 0; p < this.canvas.length; p++) {
+            this.canvas[p] = -1;
+        }
+
+        // Mark every position covered by a grid.
+        for (int[] origin : origins) {
+            for (int r = 0; r < side; r++) {
+                for (int c = 0; c < side; c++) {
+                    this.canvas[(origin[0] + r) * this.width + origin[1] + c] = 0;
+                }
+            }
+        }
+
+        int size = 0;
+
+        // Count covered positions.
+        for (int p = 0; p < this.canvas.length; p++) {
+            if (this.canvas[p] == 0) {
+                size++;
+            }
+        }
+
+        this.rows = new int[size];
+        this.cols = new int[size];
+        size = 0;
+
+        // Number covered positions in reading order.
+        for (int p = 0; p < this.canvas.length; p++) {
+            if (this.canvas[p] == 0) {
+                this.rows[size] = p / this.width;
+                this.cols[size] = p % this.width;
+                this.canvas[p] = size++;
+            }
+        }
+    }
+
+    /**
+     * Creates the layout of a single grid.
+     * 
+     * @param side of the grid.
+     * @return single grid layout.
+     */
+    public static Layout single(int side) {
+        return new Layout(side, new int[][] {{0, 0}});
+    }
+
+    /**
+     * Creates the layout of a triple puzzle: three 9x9 grids, each sharing 
+     * its bottom right square with the top left square of the next.
+     * 
+     * @return triple layout.
+     */
+    public static Layout triple() {
+        return new Layout(9, new int[][] {{0, 0}, {6, 6}, {12, 12}});
+    }
+
+    /**
+     * Creates the layout of a samurai puzzle: four 9x9 corner grids, each 
+     * sharing a corner square with a center grid.
+     * 
+     * @return samurai layout.
+     */
+    public static Layout samurai() {
+        return new Layout(9, new int[][] {{0, 0}, {0, 12}, {6, 6}, {12, 0}, {12, 12}});
+    }
+
+    /**
+     * Gets the layout of a puzzle type. Types other than "triple" and 
+     * "samurai" are a single grid.
+     * 
+     * @param type of the puzzle.
+     * @param cells number of cells of the puzzle.
+     * @return layout of the puzzle.
+     */
+    public static Layout forType(String type, int cells) {
+        if (type.equals("triple")) {
+            return triple();
+        } else if (type.equals("samurai")) {
+            return samurai();
+        }
+        return single(CSP.sideOf(cells));
+    }
+
+    /**
+     * Gets the side of every grid.
+     * 
+     * @return number of cells in a row, col or square of a grid.
+     */
+    public int getSide() {
+        return this.side;
+    }
+
+    /**
+     * Gets the side of the squares.
+     * 
+     * @return number of rows and cols of a square.
+     */
+    public int getSqrSize() {
+        return this.sqrSize;
+    }
+
+    /**
+     * Gets the number of grids.
+     * 
+     * @return number of grids.
+     */
+    public int getGrids() {
+        return this.origins.length;
+    }
+
+    /**
+     * Gets the number of cells of the puzzle.
+     * 
+     * @return number of positions covered by a grid.
+     */
+    public int size() {
+        return this.rows.length;
+    }
+
+    /**
+     * Gets the number of rows of the canvas.
+     * 
+     * @return height of the canvas.
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Gets the number of cols of the canvas.
+     * 
+     * @return width of the canvas.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Gets the cell at a position of a grid.
+     * 
+     * @param grid number of the grid.
+     * @param r row in the grid.
+     * @param c col in the grid.
+     * @return position of the cell in the puzzle.
+     */
+    public int getIndex(int grid, int r, int c) {
+        return this.canvas[(this.origins[grid][0] + r) * this.width + this.origins[grid][1] + c];
+    }
+
+    /**
+     * Gets the cell at a position of the canvas.
+     * 
+     * @param row of the canvas.
+     * @param col of the canvas.
+     * @return position of the cell in the puzzle, -1 if no grid covers it.
+     */
+    public int getCanvasIndex(int row, int col) {
+        return this.canvas[row * this.width + col];
+    }
+
+    /**
+     * Gets the canvas row of a cell.
+     * 
+     * @param i position of the cell in the puzzle.
+     * @return row of the cell on the canvas.
+     */
+    public int getRow(int i) {
+        return this.rows[i];
+    }
+
+    /**
+     * Gets the canvas col of a cell.
+     * 
+     * @param i position of the cell in the puzzle.
+     * @return col of the cell on the canvas.
+     */
+    public int getCol(int i) {
+        return this.cols[i];
+    }
+
+    /**
+     * Gets the canvas row of the top left cell of a grid.
+     * 
+     * @param grid number of the grid.
+     * @return row of the grid's origin.
+     */
+    public int getOriginRow(int grid) {
+        return this.origins[grid][0];
+    }
+
+    /**
+     * Gets the canvas col of the top left cell of a grid.
+     * 
+     * @param grid number of the grid.
+     * @return col of the grid's origin.
+     */
+    public int getOriginCol(int grid) {
+        return this.origins[grid][1];
+    }
+}
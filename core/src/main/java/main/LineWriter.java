@@ -0,0 +1,202 @@
+package main;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Writes puzzles to a single output stream, one per line, in the same
+ * format Reader.streamLines() reads: a character for every cell, "0" for 
+ * empty, digits for 1 to 9 and letters from "A" for 10 and up.
+ * Lines are encoded into a large reused byte buffer that is written out
+ * only when it fills up or the writer is closed. The writer can run on a
+ * dedicated thread, fed through a bounded queue, so solver threads don't
+ * wait on the disk and a slow disk slows solvers down instead of letting
+ * the queue grow.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class LineWriter implements PuzzleWriter {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final Board END = new Board(0);
+
+    private OutputStream out;
+    private byte[] buffer = new byte[BUFFER_SIZE];
+    private int size = 0;
+    private BlockingQueue<Board> queue;
+    private Thread thread;
+    private volatile IOException error;
+
+    /**
+     * Constructor for a writer that writes on the calling thread.
+     * 
+     * @param out stream to write to, closed with the writer.
+     */
+    public LineWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Constructor for a writer with a dedicated thread. Writers block when
+     * the queue is full.
+     * 
+     * @param out stream to write to, closed with the writer.
+     * @param capacity number of puzzles the queue holds.
+     */
+    public LineWriter(OutputStream out, int capacity) {
+        this(out);
+        this.queue = new ArrayBlockingQueue<Board>(capacity);
+        this.thread = new Thread(this::drain, "line-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Writes the state of a puzzle as a line.
+     * 
+     * @param csp puzzle to write.
+     * @throws IOException if an earlier write failed.
+     */
+    @Override
+    public void write(CSP csp) throws IOException {
+        this.write(csp.getBoard());
+    }
+
+    /**
+     * Writes a board as a line. With a writer thread, a copy of the board is
+     * queued, so the caller can keep changing it. Safe to call from many
+     * threads; lines are written in the order the calls arrive.
+     * 
+     * @param board to write.
+     * @throws IOException if an earlier write failed.
+     */
+    @Override
+    public void write(Board board) throws IOException {
+        this.checkError();
+
+        if (this.queue == null) {
+            synchronized (this) {
+                this.encode(board);
+            }
+            return;
+        }
+
+        // Wait for room in the queue.
+        try {
+            this.queue.put(board.copy());
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while queueing a line.");
+        }
+    }
+
+    /**
+     * Writes every queued line, then flushes and closes the stream.
+     * 
+     * @throws IOException if a write failed.
+     */
+    @Override
+    public void close() throws IOException {
+        // Let the writer thread finish the queue.
+        if (this.thread != null) {
+            try {
+                this.queue.put(END);
+                this.thread.join();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while closing the writer.");
+            }
+        }
+
+        synchronized (this) {
+            try {
+                this.checkError();
+                this.flushBuffer();
+                this.out.flush();
+            } finally {
+                this.out.close();
+            }
+        }
+    }
+
+    /**
+     * Encodes boards from the queue until the end marker. After a failed
+     * write, boards are still taken but dropped, so writers never block.
+     */
+    private void drain() {
+        // Take boards until the writer is closed.
+        while (true) {
+            Board board;
+
+            try {
+                board = this.queue.take();
+            } catch (InterruptedException ie) {
+                return;
+            }
+
+            if (board == END) {
+                return;
+            }
+
+            if (this.error != null) {
+                continue;
+            }
+
+            // Writer exception handling.
+            try {
+                synchronized (this) {
+                    this.encode(board);
+                }
+            } catch (IOException ioe) {
+                this.error = ioe;
+            }
+        }
+    }
+
+    /**
+     * Encodes a board into the buffer, writing the buffer out first if the
+     * line doesn't fit.
+     * 
+     * @param board to encode.
+     * @throws IOException if the buffer can't be written.
+     */
+    private void encode(Board board) throws IOException {
+        int n = board.size();
+
+        if (this.size + n + 1 > this.buffer.length) {
+            this.flushBuffer();
+        }
+
+        // A character for every cell.
+        for (int i = 0; i < n; i++) {
+            int val = board.getVal(i);
+
+            this.buffer[this.size++] = (byte) (val < 10 ? '0' + val : 'A' + val - 10);
+        }
+        this.buffer[this.size++] = '\n';
+    }
+
+    /**
+     * Writes the buffer to the stream.
+     * 
+     * @throws IOException if the stream can't be written.
+     */
+    private void flushBuffer() throws IOException {
+        this.out.write(this.buffer, 0, this.size);
+        this.size = 0;
+    }
+
+    /**
+     * Throws the error of a failed write on the writer thread.
+     * 
+     * @throws IOException if a write failed.
+     */
+    private void checkError() throws IOException {
+        if (this.error != null) {
+            throw this.error;
+        }
+    }
+}
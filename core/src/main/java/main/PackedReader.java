@@ -0,0 +1,230 @@
+package main;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads puzzles from a file in the packed binary format (see Packed). Any 
+ * puzzle can be read by its index, and the whole file can be streamed in 
+ * large blocks. Reads by index use positional reads of the file, so many 
+ * threads can share one reader.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class PackedReader implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private FileChannel channel;
+    private int cells;
+    private int bits;
+    private int recordSize;
+    private long count;
+    private CSP template;
+
+    /**
+     * Constructor opening the file and checking its header.
+     * 
+     * @param filepath of the file.
+     * @throws IOException if the file can't be read or is not packed.
+     */
+    public PackedReader(String filepath) throws IOException {
+        this.channel = FileChannel.open(Paths.get(filepath), StandardOpenOption.READ);
+
+        ByteBuffer header = ByteBuffer.allocate(Packed.HEADER_SIZE);
+        this.readFully(header, 0);
+
+        byte[] magic = new byte[Packed.MAGIC.length];
+        header.get(magic);
+
+        if (!Arrays.equals(magic, Packed.MAGIC) || header.get() != Packed.VERSION) {
+            this.channel.close();
+            throw new IOException("Not a packed puzzle file: \"" + filepath + "\"");
+        }
+
+        this.bits = header.get();
+        this.cells = header.getShort();
+        this.count = header.getLong();
+        this.recordSize = Packed.recordSize(this.cells, this.bits);
+
+        Board empty = new Board(this.cells);
+
+        // Header exception handling.
+        try {
+            Packed.unpack(new byte[this.recordSize], 0, this.bits, empty);
+            this.template = new CSP("classic", "0", empty);
+        } catch (IllegalArgumentException iae) {
+            this.channel.close();
+            throw new IOException("Not a packed puzzle file: \"" + filepath + "\"");
+        }
+    }
+
+    /**
+     * Gets the number of puzzles in the file.
+     * 
+     * @return number of puzzles.
+     */
+    public long size() {
+        return this.count;
+    }
+
+    /**
+     * Reads a puzzle by its index. The id of the puzzle is its index.
+     * 
+     * @param index of the puzzle, starting at 0.
+     * @return puzzle.
+     * @throws IOException if the file can't be read.
+     */
+    public CSP read(long index) throws IOException {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("Puzzle " + index + " of " + this.count);
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(this.recordSize);
+        this.readFully(record, Packed.HEADER_SIZE + index * this.recordSize);
+
+        return this.toCsp(record.array(), 0, index);
+    }
+
+    /**
+     * Streams every puzzle of the file in order. Records are read in blocks 
+     * as the stream is consumed.
+     * 
+     * @return stream of puzzles.
+     */
+    public Stream<CSP> stream() {
+        Spliterator<CSP> split = Spliterators.spliterator(new BlockIterator(), this.count,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+
+        return StreamSupport.stream(split, false);
+    }
+
+    /**
+     * Closes the file.
+     * 
+     * @throws IOException if the file can't be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    /**
+     * Unpacks a record into a new puzzle, sharing the index of the empty 
+     * puzzle made from the header.
+     * 
+     * @param in array holding the record.
+     * @param offset position of the record in the array.
+     * @param index of the puzzle.
+     * @return puzzle.
+     * @throws IOException if the record holds a value too large for the 
+     *         puzzle.
+     */
+    private CSP toCsp(byte[] in, int offset, long index) throws IOException {
+        Board board = new Board(this.cells);
+
+        // Value exception handling.
+        try {
+            Packed.unpack(in, offset, this.bits, board);
+        } catch (IllegalArgumentException iae) {
+            throw new IOException("Corrupt packed puzzle " + index + ": " + iae.getMessage());
+        }
+
+        return this.template.withBoard(String.valueOf(index), board);
+    }
+
+    /**
+     * Fills a buffer from a position of the file.
+     * 
+     * @param buffer to fill.
+     * @param pos position in the file.
+     * @throws IOException if the file ends before the buffer is full.
+     */
+    private void readFully(ByteBuffer buffer, long pos) throws IOException {
+        // Read until the buffer is full.
+        while (buffer.hasRemaining()) {
+            int read = this.channel.read(buffer, pos);
+
+            if (read < 0) {
+                throw new IOException("Packed puzzle file ended early.");
+            }
+            pos += read;
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Iterates over the puzzles of the file, reading many records at once.
+     */
+    private class BlockIterator implements Iterator<CSP> {
+        private ByteBuffer block = ByteBuffer.allocate(Math.max(BUFFER_SIZE, recordSize)
+                / recordSize * recordSize);
+        private long next = 0;
+        private long blockStart = 0;
+        private int blockRecords = 0;
+
+        /**
+         * Checks if another puzzle is left.
+         * 
+         * @return true if another puzzle is left.
+         */
+        @Override
+        public boolean hasNext() {
+            return this.next < count;
+        }
+
+        /**
+         * Gets the next puzzle, reading the next block if needed.
+         * 
+         * @return next puzzle.
+         */
+        @Override
+        public CSP next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            if (this.next == this.blockStart + this.blockRecords) {
+                this.readBlock();
+            }
+
+            int offset = (int) (this.next - this.blockStart) * recordSize;
+
+            // Reader exception handling.
+            try {
+                return toCsp(this.block.array(), offset, this.next++);
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }
+
+        /**
+         * Reads the block of records starting at the next puzzle.
+         */
+        private void readBlock() {
+            int records = (int) Math.min(this.block.capacity() / recordSize, count - this.next);
+
+            this.block.clear().limit(records * recordSize);
+
+            // Reader exception handling.
+            try {
+                readFully(this.block, Packed.HEADER_SIZE + this.next * recordSize);
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+            this.blockStart = this.next;
+            this.blockRecords = records;
+        }
+    }
+}
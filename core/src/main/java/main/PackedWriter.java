@@ -0,0 +1,152 @@
+package main;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes puzzles to a file in the packed binary format (see Packed). Records 
+ * are packed into a large reused buffer that is written out when it fills 
+ * up. The number of puzzles in the header is filled in when the writer is 
+ * closed. The size of the records is either given up front, or taken from 
+ * the first puzzle written.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class PackedWriter implements PuzzleWriter {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private FileChannel channel;
+    private int cells;
+    private int bits;
+    private int recordSize;
+    private ByteBuffer buffer;
+    private long count = 0;
+
+    /**
+     * Constructor creating the file and writing its header.
+     * 
+     * @param filepath of the file, replaced if it exists.
+     * @param cells number of cells per puzzle.
+     * @param maxVal largest value of a cell.
+     * @throws IOException if the file can't be written.
+     */
+    public PackedWriter(String filepath, int cells, int maxVal) throws IOException {
+        this(filepath);
+        this.start(cells, maxVal);
+    }
+
+    /**
+     * Constructor creating the file. The header is written for the size of 
+     * the first puzzle, or for 9x9 puzzles if none is written.
+     * 
+     * @param filepath of the file, replaced if it exists.
+     * @throws IOException if the file can't be written.
+     */
+    public PackedWriter(String filepath) throws IOException {
+        this.channel = FileChannel.open(Paths.get(filepath), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Sizes the records and writes the header into the buffer.
+     * 
+     * @param cells number of cells per puzzle.
+     * @param maxVal largest value of a cell.
+     */
+    private void start(int cells, int maxVal) {
+        this.cells = cells;
+        this.bits = Packed.bitsFor(maxVal);
+        this.recordSize = Packed.recordSize(cells, this.bits);
+        this.buffer = ByteBuffer.allocate(Math.max(BUFFER_SIZE, this.recordSize));
+
+        this.buffer.put(Packed.MAGIC);
+        this.buffer.put(Packed.VERSION);
+        this.buffer.put((byte) this.bits);
+        this.buffer.putShort((short) cells);
+        this.buffer.putLong(0);
+    }
+
+    /**
+     * Writes the state of a puzzle.
+     * 
+     * @param csp puzzle to write.
+     * @throws IOException if the file can't be written.
+     */
+    @Override
+    public void write(CSP csp) throws IOException {
+        this.write(csp.getBoard());
+    }
+
+    /**
+     * Writes a board as the next record. Safe to call from many threads; 
+     * records are written in the order the calls arrive.
+     * 
+     * @param board to write.
+     * @throws IOException if the file can't be written.
+     */
+    @Override
+    public synchronized void write(Board board) throws IOException {
+        if (this.buffer == null) {
+            this.start(board.size(), CSP.sideOf(board.size()));
+        }
+
+        if (board.size() != this.cells) {
+            throw new IllegalArgumentException("Expected " + this.cells + " cells, found " + board.size());
+        }
+
+        if (this.buffer.remaining() < this.recordSize) {
+            this.flushBuffer();
+        }
+
+        int pos = this.buffer.position();
+
+        // Clear the bytes of the record, packing only sets bits.
+        for (int i = 0; i < this.recordSize; i++) {
+            this.buffer.put(pos + i, (byte) 0);
+        }
+
+        Packed.pack(board, this.bits, this.buffer.array(), pos);
+        this.buffer.position(pos + this.recordSize);
+        this.count++;
+    }
+
+    /**
+     * Writes the buffered records and the number of puzzles, and closes 
+     * the file.
+     * 
+     * @throws IOException if the file can't be written.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.buffer == null) {
+            this.start(81, 9);
+        }
+
+        try {
+            this.flushBuffer();
+
+            ByteBuffer count = ByteBuffer.allocate(8).putLong(0, this.count);
+            this.channel.write(count, Packed.COUNT_OFFSET);
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    /**
+     * Writes the buffer to the file.
+     * 
+     * @throws IOException if the file can't be written.
+     */
+    private void flushBuffer() throws IOException {
+        this.buffer.flip();
+
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+}
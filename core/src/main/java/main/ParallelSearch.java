@@ -0,0 +1,212 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Splits the search of a single puzzle over a fork-join pool. The top levels
+ * of the search tree are expanded into tasks: every task runs AC-3 on its own
+ * copy of the puzzle, picks the cell with the fewest values left, and forks a
+ * task for every value. Below the split depth, each task solves its copy
+ * with a sequential solver. The first solution found cancels every other
+ * solver, and tasks that have not started yet skip their subtree.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class ParallelSearch {
+    private ForkJoinPool pool;
+    private Supplier<Solver> config;
+    private boolean pre;
+    private boolean forward;
+    private int splitDepth;
+    private AtomicReference<CSP> solution = new AtomicReference<CSP>();
+    private ConcurrentLinkedQueue<Solver> running = new ConcurrentLinkedQueue<Solver>();
+    private StatsCollector stats = new StatsCollector();
+
+    /**
+     * Constructor initializing variables.
+     * 
+     * @param pool to run the subtrees on, owned by the caller.
+     * @param config makes a configured solver for every subtree.
+     * @param pre true if subtree solvers preprocess.
+     * @param forward true if subtree solvers forward check.
+     * @param splitDepth number of search levels split into tasks.
+     */
+    public ParallelSearch(ForkJoinPool pool, Supplier<Solver> config, boolean pre,
+            boolean forward, int splitDepth) {
+        this.pool = pool;
+        this.config = config;
+        this.pre = pre;
+        this.forward = forward;
+        this.splitDepth = splitDepth;
+    }
+
+    /**
+     * Gets the summed metrics of the subtree solvers of the last solve.
+     * 
+     * @return metrics of the subtree solvers.
+     */
+    public StatsCollector getStats() {
+        return this.stats;
+    }
+
+    /**
+     * Solves the puzzle. Values of the solution are written to the cells of
+     * the puzzle, which is not touched by the tasks otherwise.
+     * 
+     * @param csp generic puzzle structure.
+     * @return list of cells of a solved puzzle, null if there is none.
+     */
+    public ArrayList<Cell> solve(CSP csp) {
+        this.solution.set(null);
+        this.running.clear();
+        this.stats = new StatsCollector();
+
+        this.pool.invoke(new Subtree(csp.copy(), 0));
+
+        CSP result = this.solution.get();
+
+        if (result == null) {
+            return null;
+        }
+
+        // Copy the solution into the puzzle.
+        csp.getBoard().copyFrom(result.getBoard());
+
+        return csp.getCells();
+    }
+
+    /**
+     * Solves a subtree below the split depth with a sequential solver. The
+     * solver is registered before it starts, so a solution found elsewhere
+     * can cancel it.
+     * 
+     * @param csp copy of the puzzle at the root of the subtree.
+     */
+    private void solveLeaf(CSP csp) {
+        Solver solver = this.config.get();
+
+        this.running.add(solver);
+
+        // Catch a solution found before the solver was registered.
+        if (this.solution.get() != null) {
+            solver.cancel();
+        }
+
+        ArrayList<Cell> result = solver.solve(csp, this.pre, this.forward);
+
+        this.running.remove(solver);
+        this.stats.add(solver.getStats());
+
+        if (result != null) {
+            this.found(csp);
+        }
+    }
+
+    /**
+     * Records a solution, and cancels every running solver if it is the
+     * first one.
+     * 
+     * @param result solved copy of the puzzle.
+     */
+    private void found(CSP result) {
+        if (!this.solution.compareAndSet(null, result)) {
+            return;
+        }
+
+        // Stop every other subtree.
+        for (Solver solver : this.running) {
+            solver.cancel();
+        }
+    }
+
+    /**
+     * Picks the unassigned cell with the fewest values left. Cells with a 
+     * single value left don't split the search, so they are skipped.
+     * 
+     * @param csp generic puzzle structure.
+     * @return cell to split on, null if no cell has a choice.
+     */
+    private static Cell selectVar(CSP csp) {
+        Cell best = null;
+
+        // For every unassigned cell with a choice.
+        for (Cell cell : csp.getCells()) {
+            if (cell.getVal() == 0 && cell.getDomainSize() > 1
+                    && (best == null || cell.getDomainSize() < best.getDomainSize())) {
+                best = cell;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Task that searches the subtree under one partial assignment.
+     */
+    private class Subtree extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private CSP csp;
+        private int depth;
+
+        /**
+         * Constructor initializing variables.
+         * 
+         * @param csp copy of the puzzle owned by the task.
+         * @param depth level of the subtree root in the search.
+         */
+        Subtree(CSP csp, int depth) {
+            this.csp = csp;
+            this.depth = depth;
+        }
+
+        /**
+         * Splits the subtree on the values of one cell, or solves it if it
+         * is deep enough.
+         */
+        @Override
+        protected void compute() {
+            // Skip the subtree if a solution was found.
+            if (solution.get() != null) {
+                return;
+            }
+
+            if (this.depth == splitDepth) {
+                solveLeaf(this.csp);
+                return;
+            }
+
+            // Shrink domains so the split picks a good cell.
+            if (!new AC3().ac3(this.csp)) {
+                return;
+            }
+
+            Cell var = selectVar(this.csp);
+
+            // No choice left, let the solver finish the puzzle.
+            if (var == null) {
+                solveLeaf(this.csp);
+                return;
+            }
+
+            ArrayList<Subtree> children = new ArrayList<Subtree>();
+
+            // Fork a task for every value of the cell.
+            for (int dom = var.getDomain(); dom != 0; dom = Domain.dropLowest(dom)) {
+                int val = Domain.lowest(dom);
+                CSP child = this.csp.copy();
+                Cell cell = child.getCellAt(var.getIndex());
+
+                cell.setVal(val);
+                cell.domainCollapse(val);
+                children.add(new Subtree(child, this.depth + 1));
+            }
+            invokeAll(children);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Races several solver configurations on the same puzzle. Every
+ * configuration solves its own copy of the CSP on a pool thread, the first
+ * one to finish wins, and the rest are cancelled. How long a configuration
+ * takes varies a lot between puzzles, and racing them bounds the time of
+ * the worst puzzles by the best configuration for each.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class Portfolio {
+    private ExecutorService pool;
+    private ArrayList<Supplier<Solver>> configs = new ArrayList<Supplier<Solver>>();
+    private ArrayList<boolean[]> modes = new ArrayList<boolean[]>();
+    private int winner = -1;
+    private SolveStats stats;
+
+    /**
+     * Constructor initializing variables.
+     * 
+     * @param pool to run the configurations on, owned by the caller.
+     */
+    public Portfolio(ExecutorService pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Adds a configuration to the race. A new solver is made for every
+     * puzzle, since cancelled solvers can't be reused.
+     * 
+     * @param config makes a configured solver.
+     * @param pre true if preprocessing requested.
+     * @param forward true if forward checking requested.
+     */
+    public void add(Supplier<Solver> config, boolean pre, boolean forward) {
+        this.configs.add(config);
+        this.modes.add(new boolean[] {pre, forward});
+    }
+
+    /**
+     * Gets the number of configurations in the race.
+     * 
+     * @return number of configurations.
+     */
+    public int size() {
+        return this.configs.size();
+    }
+
+    /**
+     * Gets the configuration that won the last race.
+     * 
+     * @return position of the winning configuration, -1 if none finished.
+     */
+    public int getWinner() {
+        return this.winner;
+    }
+
+    /**
+     * Gets the metrics of the winning solve of the last race.
+     * 
+     * @return metrics of the winner, null if none finished.
+     */
+    public SolveStats getStats() {
+        return this.stats;
+    }
+
+    /**
+     * Solves the puzzle with every configuration at once. Values of the
+     * first solution are written to the cells of the puzzle. Losers are
+     * cancelled and left to stop on their own.
+     * 
+     * @param csp generic puzzle structure.
+     * @return list of cells of a solved puzzle, null if there is none.
+     * @throws InterruptedException if interrupted while waiting for a winner.
+     */
+    public ArrayList<Cell> solve(CSP csp) throws InterruptedException {
+        int n = this.configs.size();
+        Solver[] solvers = new Solver[n];
+        CSP[] copies = new CSP[n];
+        AtomicReferenceArray<ArrayList<Cell>> results = new AtomicReferenceArray<ArrayList<Cell>>(n);
+        ArrayList<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+        CompletionService<Integer> done = new ExecutorCompletionService<Integer>(this.pool);
+
+        this.winner = -1;
+        this.stats = null;
+
+        // Start every configuration on its own copy of the puzzle.
+        for (int i = 0; i < n; i++) {
+            int k = i;
+            boolean[] mode = this.modes.get(k);
+
+            copies[k] = csp.copy();
+            solvers[k] = this.configs.get(k).get();
+            futures.add(done.submit(() -> {
+                results.set(k, solvers[k].solve(copies[k], mode[0], mode[1]));
+                return k;
+            }));
+        }
+
+        try {
+            // Take finished configurations until one did not fail.
+            for (int left = n; left > 0 && this.winner == -1; left--) {
+                try {
+                    this.winner = done.take().get();
+                } catch (ExecutionException ee) {
+                    System.out.println("Portfolio configuration failed.");
+                    ee.printStackTrace();
+                }
+            }
+        } finally {
+            // Stop the losers, and the ones that have not started.
+            for (int i = 0; i < n; i++) {
+                solvers[i].cancel();
+                futures.get(i).cancel(false);
+            }
+        }
+
+        if (this.winner == -1) {
+            return null;
+        }
+        this.stats = solvers[this.winner].getStats();
+
+        if (results.get(this.winner) == null) {
+            return null;
+        }
+
+        // Copy the winning solution into the puzzle.
+        csp.getBoard().copyFrom(copies[this.winner].getBoard());
+
+        return csp.getCells();
+    }
+}
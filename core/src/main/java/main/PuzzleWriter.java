@@ -0,0 +1,37 @@
+package main;
+
+import java.io.IOException;
+
+/**
+ * Writes puzzles one after another to a single output, such as a file with 
+ * one puzzle per line or a packed binary file.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public interface PuzzleWriter extends AutoCloseable {
+
+    /**
+     * Writes the state of a puzzle.
+     * 
+     * @param csp puzzle to write.
+     * @throws IOException if the output can't be written.
+     */
+    void write(CSP csp) throws IOException;
+
+    /**
+     * Writes the values of a board, as the puzzle it holds.
+     * 
+     * @param board to write.
+     * @throws IOException if the output can't be written.
+     */
+    void write(Board board) throws IOException;
+
+    /**
+     * Writes every buffered puzzle and closes the output.
+     * 
+     * @throws IOException if the output can't be written.
+     */
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,647 @@
+package main;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implements the reader for the program. Opens a file, and parses it 
+ * depending on its type indicated in the file name. Large sets of classic 
+ * puzzles can also be streamed from a single file with one puzzle per line, 
+ * parsed straight from bytes onto boards, or mapped into memory and split 
+ * into slices for parallel workers. Puzzles of any N^2 x N^2 size up to 
+ * 25x25 are read, the size following from the number of cells. Triple and 
+ * samurai puzzles are read grid by grid onto shared cells.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class Reader {
+    private static final int MAX_LINE = CSP.MAX_SIDE * CSP.MAX_SIDE;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final long MAX_SLICE = 1 << 30;
+
+    /**
+     * Reads the file with a given file path. Only the cells of a killer 
+     * or multi-grid puzzle are read, see readPuzzle() for its constraints.
+     * 
+     * @param filepath of a file.
+     * @return list of cells.
+     */
+    public ArrayList<Cell> readFile(String filepath) {
+        ArrayList<Cell> cells;
+
+        // Reader exception handling.
+        try {
+        File file = new File(filepath);
+        Scanner sc = new Scanner(file);
+
+        // Check puzzle type in the file name.
+        if (filepath.contains("classic")) {
+            Board board = parseClassic(sc);
+            cells = board == null ? null : viewsOf(board);
+        } else if (filepath.contains("triple") || filepath.contains("samurai")) {
+            String type = filepath.contains("triple") ? "triple" : "samurai";
+            CSP csp = parseGrids(sc, Layout.forType(type, 0), type, "0");
+            cells = csp == null ? null : csp.getCells();
+        } else if (filepath.contains("killer")) {
+            CSP csp = parseKiller(sc, "killer", "0");
+            cells = csp == null ? null : csp.getCells();
+        } else {
+            System.out.println("Unknown puzzle type of \"" + filepath + "\"");
+            cells = null;
+        }
+        sc.close();
+        return cells;
+
+        } catch(FileNotFoundException fnfe) {
+            System.out.println("Did not find file \"" + filepath + "\"");
+            fnfe.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Reads the puzzle in the file with a given file path, with the cages of 
+     * a killer puzzle or the layout of a multi-grid puzzle.
+     * 
+     * @param filepath of a file.
+     * @param type of the puzzle.
+     * @param id of the puzzle.
+     * @return puzzle, null if the file can't be read.
+     */
+    public CSP readPuzzle(String filepath, String type, String id) {
+        boolean classic = filepath.contains("classic");
+        boolean triple = filepath.contains("triple");
+
+        if (!classic && !triple && !filepath.contains("samurai") && !filepath.contains("killer")) {
+            System.out.println("Unknown puzzle type of \"" + filepath + "\"");
+            return null;
+        }
+
+        // Reader exception handling.
+        try (Scanner sc = new Scanner(new File(filepath))) {
+            if (classic) {
+                Board board = parseClassic(sc);
+
+                return board == null ? null : new CSP(type, id, board);
+            } else if (triple || filepath.contains("samurai")) {
+                return parseGrids(sc, triple ? Layout.triple() : Layout.samurai(), type, id);
+            }
+            return parseKiller(sc, type, id);
+        } catch (FileNotFoundException fnfe) {
+            System.out.println("Did not find file \"" + filepath + "\"");
+            fnfe.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Parses a file with a killer sudoku puzzle. The file holds the cage 
+     * number of every cell, left to right, top to bottom, with cages 
+     * numbered from 1, followed by the sum of every cage in number order. 
+     * Every cell starts empty.
+     * 
+     * @param sc scanner of the program.
+     * @param type of the puzzle.
+     * @param id of the puzzle.
+     * @return puzzle, null if the numbers don't make a killer puzzle.
+     */
+    private CSP parseKiller(Scanner sc, String type, String id) {
+        ArrayList<Integer> nums = new ArrayList<Integer>();
+
+        // Every number in the file.
+        while (sc.hasNextInt()) {
+            nums.add(sc.nextInt());
+        }
+
+        int side = 0;
+        int nCages = 0;
+
+        // Find the board size that leaves one sum for every cage.
+        for (int sqrSize = 2; sqrSize * sqrSize <= CSP.MAX_SIDE && side == 0; sqrSize++) {
+            int n = sqrSize * sqrSize * sqrSize * sqrSize;
+
+            if (n > nums.size()) {
+                break;
+            }
+
+            int max = 0;
+
+            // Largest cage number of the cells.
+            for (int i = 0; i < n; i++) {
+                max = Math.max(max, nums.get(i));
+            }
+
+            if (n + max == nums.size()) {
+                side = sqrSize * sqrSize;
+                nCages = max;
+            }
+        }
+
+        if (side == 0) {
+            System.out.println("Expected a cage for every cell and a sum for every cage");
+            return null;
+        }
+
+        Board board = new Board(side * side);
+        ArrayList<Constraint> cages = new ArrayList<Constraint>(nCages);
+
+        // A cage for every sum.
+        for (int k = 0; k < nCages; k++) {
+            cages.add(new Constraint("sum", nums.get(side * side + k)));
+        }
+
+        // Every cell, added to its cage.
+        for (int i = 0; i < side * side; i++) {
+            int cage = nums.get(i);
+
+            if (cage < 1) {
+                System.out.println("Cell " + i + " is in no cage");
+                return null;
+            }
+
+            board.setDomain(i, Domain.full(side));
+            cages.get(cage - 1).cellsAdd(new Cell(board, i));
+        }
+
+        // Check that every cage has cells.
+        for (int k = 0; k < nCages; k++) {
+            if (cages.get(k).getCellsSize() == 0) {
+                System.out.println("Cage " + (k + 1) + " has no cells");
+                return null;
+            }
+        }
+        return new CSP(type, id, board, cages, Layout.single(side));
+    }
+
+    /**
+     * Parses a file with a multi-grid puzzle. The file holds every grid in 
+     * the order of the layout, each as the value of every cell, left to 
+     * right, top to bottom, with 0 for empty cells. A cell shared by two 
+     * grids is listed in both, and both must agree.
+     * 
+     * @param sc scanner of the program.
+     * @param layout of the grids.
+     * @param type of the puzzle.
+     * @param id of the puzzle.
+     * @return puzzle, null if the values don't make the puzzle.
+     */
+    private CSP parseGrids(Scanner sc, Layout layout, String type, String id) {
+        int side = layout.getSide();
+        int[] vals = new int[layout.size()];
+        boolean[] seen = new boolean[layout.size()];
+        int count = 0;
+
+        // Every grid, cell by cell.
+        for (int grid = 0; grid < layout.getGrids(); grid++) {
+            for (int r = 0; r < side; r++) {
+                for (int c = 0; c < side; c++) {
+                    if (!sc.hasNextInt()) {
+                        System.out.println("Expected " + layout.getGrids() * side * side 
+                                + " cells, found " + count);
+                        return null;
+                    }
+
+                    int val = sc.nextInt();
+                    int i = layout.getIndex(grid, r, c);
+                    count++;
+
+                    if (val < 0 || val > side) {
+                        System.out.println("Cell " + r + "," + c + " of grid " + grid 
+                                + " has value " + val);
+                        return null;
+                    }
+
+                    if (seen[i] && vals[i] != val) {
+                        System.out.println("Cell " + r + "," + c + " of grid " + grid 
+                                + " does not match the grid it is shared with");
+                        return null;
+                    }
+                    vals[i] = val;
+                    seen[i] = true;
+                }
+            }
+        }
+
+        Board board = new Board(layout.size());
+
+        // Every cell of the layout.
+        for (int i = 0; i < layout.size(); i++) {
+            board.setVal(i, vals[i]);
+            board.setDomain(i, vals[i] == 0 ? Domain.full(side) : Domain.of(vals[i]));
+        }
+        return new CSP(type, id, board, new ArrayList<Constraint>(), layout);
+    }
+
+    /**
+     * Parses a file with a classic sudoku puzzle. The file holds the value 
+     * of every cell, left to right, top to bottom, with 0 for empty cells, 
+     * and the number of values gives the size of the puzzle.
+     * 
+     * @param sc scanner of the program.
+     * @return board of the cells, null if the values don't make a puzzle.
+     */
+    private Board parseClassic(Scanner sc) {
+        ArrayList<Integer> vals = new ArrayList<Integer>();
+
+        // Every value in the file.
+        while (sc.hasNextInt()) {
+            vals.add(sc.nextInt());
+        }
+
+        int side;
+
+        // Size exception handling.
+        try {
+            side = CSP.sideOf(vals.size());
+        } catch (IllegalArgumentException iae) {
+            System.out.println("Expected 81, 256 or 625 cells, found " + vals.size());
+            return null;
+        }
+
+        Board board = new Board(vals.size());
+
+        // Every cell in the file.
+        for (int i = 0; i < vals.size(); i++) {
+            int val = vals.get(i);
+
+            board.setVal(i, val);
+            board.setDomain(i, val == 0 ? Domain.full(side) : Domain.of(val));
+        }
+        return board;
+    }
+
+    /**
+     * Makes a list of cells viewing every position of a board.
+     * 
+     * @param board holding the state of the cells.
+     * @return list of cells.
+     */
+    private ArrayList<Cell> viewsOf(Board board) {
+        ArrayList<Cell> cells = new ArrayList<Cell>(board.size());
+
+        // View every position of the board.
+        for (int i = 0; i < board.size(); i++) {
+            cells.add(new Cell(board, i));
+        }
+        return cells;
+    }
+
+    /**
+     * Streams classic puzzles from a file with one puzzle per line. A line 
+     * holds a character for every cell, left to right, top to bottom, with 
+     * "0" or "." for empty cells, digits for 1 to 9 and letters from "A" for 
+     * 10 and up, so a line holds 81, 256 or 625 characters. Blank lines are 
+     * skipped, malformed lines are reported and skipped. Puzzles are read 
+     * lazily as the stream is consumed, and the id of each puzzle is its line 
+     * number. Close the stream to close the file.
+     * 
+     * @param filepath of a file.
+     * @return stream of puzzles, empty if the file can't be opened.
+     */
+    public Stream<CSP> streamLines(String filepath) {
+        InputStream in;
+
+        // Reader exception handling.
+        try {
+            in = new FileInputStream(filepath);
+        } catch (FileNotFoundException fnfe) {
+            System.out.println("Did not find file \"" + filepath + "\"");
+            fnfe.printStackTrace();
+            return Stream.empty();
+        }
+
+        LineIterator lines = new LineIterator(in, ByteBuffer.allocate(BUFFER_SIZE).limit(0), 0, false);
+
+        return toStream(lines).onClose(lines::close);
+    }
+
+    /**
+     * Maps a file with one puzzle per line into memory, and splits it into 
+     * slices that start and end on line boundaries. Each slice is a lazy 
+     * stream that parses its own region of the mapping, so workers can read 
+     * slices in parallel without sharing anything. Lines are in the format 
+     * of streamLines(), and the id of each puzzle is the byte offset of its 
+     * line, which is unique and sorts in file order. Big files are split into 
+     * more slices, since a single mapping is limited in size.
+     * 
+     * @param filepath of a file.
+     * @param slices number of slices wanted.
+     * @return streams of the slices in file order, some may be empty, none 
+     *         if the file can't be mapped.
+     */
+    public List<Stream<CSP>> mapLines(String filepath, int slices) {
+        List<Stream<CSP>> streams = new ArrayList<Stream<CSP>>();
+
+        // Reader exception handling.
+        try (FileChannel channel = FileChannel.open(Paths.get(filepath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            int n = (int) Math.max(slices, size / MAX_SLICE + 1);
+            long start = 0;
+
+            // Map every slice, ending it at the next line break.
+            for (int k = 1; k <= n; k++) {
+                long end = k == n ? size : lineStart(channel, Math.max(start, size * k / n), size);
+
+                if (end == start) {
+                    streams.add(Stream.empty());
+                    continue;
+                }
+
+                ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+
+                streams.add(toStream(new LineIterator(null, region, start, true)));
+                start = end;
+            }
+        } catch (IOException ioe) {
+            System.out.println("Error mapping file \"" + filepath + "\"");
+            ioe.printStackTrace();
+            streams.clear();
+        }
+        return streams;
+    }
+
+    /**
+     * Finds the start of the first line at or after a position.
+     * 
+     * @param channel of the file.
+     * @param pos position in the file.
+     * @param size of the file.
+     * @return position of the line start, size of the file if there is none.
+     * @throws IOException if the file can't be read.
+     */
+    private static long lineStart(FileChannel channel, long pos, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+        if (pos == 0) {
+            return 0;
+        }
+
+        // Read from the byte before the position, until a line break.
+        for (long p = pos - 1; p < size; ) {
+            buffer.clear();
+            int read = channel.read(buffer, p);
+
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return p + i + 1;
+                }
+            }
+            p += read;
+        }
+        return size;
+    }
+
+    /**
+     * Wraps an iterator of puzzles into a sequential stream.
+     * 
+     * @param lines iterator of puzzles.
+     * @return stream of puzzles.
+     */
+    private static Stream<CSP> toStream(LineIterator lines) {
+        Spliterator<CSP> split = Spliterators.spliteratorUnknownSize(lines,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+
+        return StreamSupport.stream(split, false);
+    }
+
+    /**
+     * Parses a classic puzzle written on one line onto a new board. The 
+     * first puzzle of every size is kept as a template, and later puzzles of 
+     * that size share its index.
+     * 
+     * @param line bytes of the line, without the line break.
+     * @param len number of bytes in the line.
+     * @param id of the puzzle.
+     * @param templates first puzzle of every side, null where none was read.
+     * @return puzzle, null if the line is malformed.
+     */
+    static CSP parseLine(byte[] line, int len, String id, CSP[] templates) {
+        int side;
+
+        // Size exception handling.
+        try {
+            side = CSP.sideOf(Math.min(len, MAX_LINE + 1));
+        } catch (IllegalArgumentException iae) {
+            System.out.println("Skipping line " + id + ": expected 81, 256 or 625 cells, found " + len);
+            return null;
+        }
+
+        Board board = new Board(len);
+
+        // Every cell on the line.
+        for (int i = 0; i < len; i++) {
+            int val = parseVal(line[i]);
+
+            if (val < 0 || val > side) {
+                System.out.println("Skipping line " + id + ": unexpected character at " + i);
+                return null;
+            }
+
+            board.setVal(i, val);
+            board.setDomain(i, val == 0 ? Domain.full(side) : Domain.of(val));
+        }
+
+        if (templates[side] == null) {
+            templates[side] = new CSP("classic", id, board);
+            return templates[side];
+        }
+        return templates[side].withBoard(id, board);
+    }
+
+    /**
+     * Parses the character of a cell on a line.
+     * 
+     * @param c character of the cell.
+     * @return value of the cell, 0 for empty, -1 if the character is unknown.
+     */
+    private static int parseVal(byte c) {
+        if (c == '.') {
+            return 0;
+        } else if (c >= '0' && c <= '9') {
+            return c - '0';
+        } else if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        } else if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 10;
+        }
+        return -1;
+    }
+
+    /**
+     * Iterates over the puzzles of a one-puzzle-per-line file. Bytes come 
+     * from a buffer: either a block buffer refilled from a stream, or a 
+     * mapped region of the file that is read once. Each line is copied into a 
+     * small reused array, so no strings are made.
+     */
+    private static class LineIterator implements Iterator<CSP> {
+        private InputStream in;
+        private ByteBuffer buffer;
+        private long offset;
+        private boolean byOffset;
+        private byte[] line = new byte[MAX_LINE];
+        private CSP[] templates = new CSP[CSP.MAX_SIDE + 1];
+        private long lineNumber = 0;
+        private CSP next;
+
+        /**
+         * Constructor initializing variables.
+         * 
+         * @param in stream to refill the buffer from, null if the buffer 
+         *        holds every byte.
+         * @param buffer of bytes to read.
+         * @param offset position of the first byte in the file.
+         * @param byOffset true to name puzzles by byte offset instead of 
+         *        line number.
+         */
+        LineIterator(InputStream in, ByteBuffer buffer, long offset, boolean byOffset) {
+            this.in = in;
+            this.buffer = buffer;
+            this.offset = offset;
+            this.byOffset = byOffset;
+        }
+
+        /**
+         * Checks if another puzzle is left, reading it if needed.
+         * 
+         * @return true if another puzzle is left.
+         */
+        @Override
+        public boolean hasNext() {
+            if (this.next == null) {
+                this.next = this.readPuzzle();
+            }
+            return this.next != null;
+        }
+
+        /**
+         * Gets the next puzzle.
+         * 
+         * @return next puzzle.
+         */
+        @Override
+        public CSP next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            CSP csp = this.next;
+            this.next = null;
+
+            return csp;
+        }
+
+        /**
+         * Closes the file.
+         */
+        void close() {
+            // Reader exception handling.
+            try {
+                this.in.close();
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }
+
+        /**
+         * Reads lines until one holds a puzzle.
+         * 
+         * @return next puzzle, null at the end of the file.
+         */
+        private CSP readPuzzle() {
+            long start = this.offset;
+            int len;
+
+            // Parse lines until one is a valid puzzle.
+            while ((len = this.readLine()) >= 0) {
+                this.lineNumber++;
+
+                if (len > 0) {
+                    String id = String.valueOf(this.byOffset ? start : this.lineNumber);
+                    CSP csp = parseLine(this.line, len, id, this.templates);
+
+                    if (csp != null) {
+                        return csp;
+                    }
+                }
+                start = this.offset;
+            }
+            return null;
+        }
+
+        /**
+         * Reads a line into the line array. Carriage returns are dropped, 
+         * and only the bytes of the largest puzzle are kept, but all bytes 
+         * are counted.
+         * 
+         * @return length of the line, -1 at the end of the file.
+         */
+        private int readLine() {
+            int len = 0;
+            int b = this.read();
+
+            if (b == -1) {
+                return -1;
+            }
+
+            // Copy bytes until the end of the line.
+            while (b != -1 && b != '\n') {
+                if (b != '\r') {
+                    if (len < MAX_LINE) {
+                        this.line[len] = (byte) b;
+                    }
+                    len++;
+                }
+                b = this.read();
+            }
+            return len;
+        }
+
+        /**
+         * Reads the next byte, refilling the buffer from the stream when it 
+         * runs out.
+         * 
+         * @return next byte, -1 at the end of the file.
+         */
+        private int read() {
+            if (!this.buffer.hasRemaining()) {
+                if (this.in == null) {
+                    return -1;
+                }
+
+                // Reader exception handling.
+                try {
+                    int read = this.in.read(this.buffer.array(), 0, this.buffer.capacity());
+
+                    this.buffer.position(0).limit(Math.max(read, 0));
+                } catch (IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+
+                if (!this.buffer.hasRemaining()) {
+                    return -1;
+                }
+            }
+            this.offset++;
+
+            return this.buffer.get() & 0xFF;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package main;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Holds the metrics of a single solve: values tried (nodes), search calls,
+ * backtracks, propagation runs, deepest search level, wall time and bytes
+ * allocated by the solving thread. A new object is made for every solve and
+ * only touched by the thread that solves, so counters need no
+ * synchronization. Batches are summed with a StatsCollector.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class SolveStats {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private long nodes;
+    private long calls;
+    private long backtracks;
+    private long propagations;
+    private int maxDepth;
+    private long startTime;
+    private long wallTime;
+    private long startBytes;
+    private long allocated;
+
+    /**
+     * Gets the number of values tried by the search.
+     * 
+     * @return number of nodes.
+     */
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    /**
+     * Gets the number of calls to the recursive search.
+     * 
+     * @return number of search calls.
+     */
+    public long getCalls() {
+        return this.calls;
+    }
+
+    /**
+     * Gets the number of assignments undone after they failed.
+     * 
+     * @return number of backtracks.
+     */
+    public long getBacktracks() {
+        return this.backtracks;
+    }
+
+    /**
+     * Gets the number of times propagation ran, in preprocessing and
+     * forward checks.
+     * 
+     * @return number of propagation runs.
+     */
+    public long getPropagations() {
+        return this.propagations;
+    }
+
+    /**
+     * Gets the deepest level reached by the search.
+     * 
+     * @return maximum search depth.
+     */
+    public int getMaxDepth() {
+        return this.maxDepth;
+    }
+
+    /**
+     * Gets the wall time of the solve.
+     * 
+     * @return wall time in nanoseconds.
+     */
+    public long getWallTime() {
+        return this.wallTime;
+    }
+
+    /**
+     * Gets the bytes allocated by the solving thread during the solve.
+     * 
+     * @return allocated bytes, -1 if the JVM can't measure them.
+     */
+    public long getAllocated() {
+        return this.allocated;
+    }
+
+    /**
+     * Starts the clock and allocation counter.
+     */
+    void start() {
+        this.startBytes = allocatedBytes();
+        this.startTime = System.nanoTime();
+    }
+
+    /**
+     * Stops the clock and allocation counter.
+     */
+    void stop() {
+        this.wallTime = System.nanoTime() - this.startTime;
+
+        long bytes = allocatedBytes();
+        this.allocated = bytes < 0 || this.startBytes < 0 ? -1 : bytes - this.startBytes;
+    }
+
+    /**
+     * Counts a value tried by the search.
+     */
+    void addNode() {
+        this.nodes++;
+    }
+
+    /**
+     * Counts a call to the search at a given level.
+     * 
+     * @param level depth of the call.
+     */
+    void addCall(int level) {
+        this.calls++;
+
+        if (level > this.maxDepth) {
+            this.maxDepth = level;
+        }
+    }
+
+    /**
+     * Counts an assignment undone after it failed.
+     */
+    void addBacktrack() {
+        this.backtracks++;
+    }
+
+    /**
+     * Counts a propagation run.
+     */
+    void addPropagation() {
+        this.propagations++;
+    }
+
+    /**
+     * Reads the bytes allocated so far by the current thread.
+     * 
+     * @return allocated bytes, -1 if the JVM can't measure them.
+     */
+    private static long allocatedBytes() {
+        // Only the HotSpot bean can count allocations.
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) THREADS)
+                    .getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,693 @@
+package main;
+
+import java.util.ArrayList;
+
+/**
+ * Runs the generic CSP solution algorithm. At the core is the backtracking 
+ * algorithm and helper methods for it. A separate forward checking method is 
+ * used for the respective solver configuration. Variables are picked in 
+ * board order, or by minimum remaining values if MRV is turned on. Values 
+ * are tried in the order set by the value ordering strategy. Arc 
+ * consistency can be combined with the all-different propagator, in which 
+ * case both run until neither changes a domain. The cages of killer puzzles 
+ * are always propagated the same way, with the sum propagator. To count 
+ * solutions, the search goes on past a solution until it has found as many 
+ * as the limit, so a limit of 2 checks that a puzzle has exactly one.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class Solver {
+
+    /**
+     * Strategies for ordering the values of a variable. ASCENDING tries 
+     * values lowest first, LCV tries first the value that rules out the 
+     * fewest values in the domains of the variable's peers.
+     */
+    public enum ValueOrder {
+        ASCENDING,
+        LCV
+    }
+
+    /**
+     * Arc consistency engines used for preprocessing and forward checking. 
+     * AC3 revises every arc from scratch, AC2001 remembers the last support 
+     * of every value.
+     */
+    public enum Propagation {
+        AC3,
+        AC2001
+    }
+
+    /**
+     * Backends that search for the solution. CSP runs the backtracking 
+     * search over cells and constraints, DLX compiles the puzzle into an 
+     * exact cover matrix and solves it with Dancing Links.
+     */
+    public enum Backend {
+        CSP,
+        DLX
+    }
+
+    private Trail trail = new Trail();
+    private AC3 ac3 = new AC3(trail);
+    private AllDiff allDiff;
+    private Sum sum = new Sum(trail);
+    private Backend backend = Backend.CSP;
+    private VarQueue queue;
+    private boolean mrv = false;
+    private ValueOrder order = ValueOrder.ASCENDING;
+    private int[][] orderedVals;
+    private int[] ruledOut = new int[0];
+    private int[] dirty = new int[0];
+    private int[] changed = new int[0];
+    private int[] seen = new int[0];
+    private int stamp = 0;
+    private SolveStats stats = new SolveStats();
+    private long limit = 1;
+    private long solutions = 0;
+    private int[] first = new int[0];
+    private volatile DancingLinks dlx;
+    private volatile boolean cancelled = false;
+
+    /**
+     * Turns the minimum remaining values heuristic, with degree heuristic 
+     * for ties, on or off.
+     * 
+     * @param mrv true if MRV should be used.
+     */
+    public void setMrv(boolean mrv) {
+        this.mrv = mrv;
+    }
+
+    /**
+     * Sets the strategy for ordering values of a variable.
+     * 
+     * @param order value ordering strategy.
+     */
+    public void setValueOrder(ValueOrder order) {
+        this.order = order;
+    }
+
+    /**
+     * Sets the arc consistency engine used for preprocessing and forward 
+     * checking.
+     * 
+     * @param propagation arc consistency engine.
+     */
+    public void setPropagation(Propagation propagation) {
+        // Engine saves its revisions on the solver's trail.
+        if (propagation == Propagation.AC2001) {
+            this.ac3 = new AC2001(this.trail);
+        } else {
+            this.ac3 = new AC3(this.trail);
+        }
+    }
+
+    /**
+     * Turns the all-different propagator on or off. When on, it runs 
+     * together with arc consistency in preprocessing and forward checking.
+     * 
+     * @param allDiff true if all-different propagation should be used.
+     */
+    public void setAllDiff(boolean allDiff) {
+        // Propagator saves its changes on the solver's trail.
+        if (allDiff) {
+            this.allDiff = new AllDiff(this.trail, 4);
+        } else {
+            this.allDiff = null;
+        }
+    }
+
+    /**
+     * Sets the backend that searches for the solution.
+     * 
+     * @param backend search backend.
+     */
+    public void setBackend(Backend backend) {
+        this.backend = backend;
+    }
+
+    /**
+     * Asks the solver to stop. Can be called from any thread. A running 
+     * search checks the request at every step and returns null, and so does 
+     * every later solve, so a cancelled solver should be thrown away.
+     */
+    public void cancel() {
+        this.cancelled = true;
+        DancingLinks running = this.dlx;
+
+        // Pass the request on to a running exact cover search.
+        if (running != null) {
+            running.cancel();
+        }
+    }
+
+    /**
+     * Gets the metrics of the last solve.
+     * 
+     * @return metrics of the last solve.
+     */
+    public SolveStats getStats() {
+        return this.stats;
+    }
+
+    /**
+     * Gets the number of solutions found by the last solve, at most the 
+     * limit it was given.
+     * 
+     * @return number of solutions found.
+     */
+    public long getSolutions() {
+        return this.solutions;
+    }
+
+    /**
+     * Counts the solutions of the generic puzzle, with the same switches, 
+     * propagation and heuristics as solve(). The search stops as soon as it 
+     * has found the limit, so a limit of 2 tells a unique puzzle from one 
+     * with several solutions without searching the whole tree. The cells 
+     * are left holding the first solution found, if there is one.
+     * 
+     * @param csp generic puzzle structure.
+     * @param pre true if preprocessing requested.
+     * @param forward true if forward checking requested.
+     * @param limit number of solutions to stop at.
+     * @return number of solutions, at most the limit.
+     */
+    public long countSolutions(CSP csp, boolean pre, boolean forward, long limit) {
+        this.limit = Math.max(limit, 1);
+
+        // Solve with the limit, then go back to single solutions.
+        try {
+            this.solve(csp, pre, forward);
+        } finally {
+            this.limit = 1;
+        }
+        return this.solutions;
+    }
+
+    /**
+     * Solves the generic puzzle. Has two switches, one for AC-3 preprocessing, 
+     * and one for forward checking. Calls AC-3 if preprocessing, and 
+     * backtrackSearch() afterwards, or the Dancing Links backend if it is 
+     * selected. Dancing Links ignores forward checking, and puzzles with sum 
+     * constraints, which it can't compile, are solved by the backtracking 
+     * search with forward checking instead. Metrics of the solve are 
+     * available from getStats() afterwards.
+     * 
+     * @param csp generic puzzle structure.
+     * @param pre true if preprocessing requested.
+     * @param forward true if forward checking requested.
+     * @return list of cells of a solved puzzle.
+     */
+    public ArrayList<Cell> solve(CSP csp, boolean pre, boolean forward) {
+        this.stats = new SolveStats();
+        this.solutions = 0;
+        this.stats.start();
+
+        ArrayList<Cell> result = this.solvePuzzle(csp, pre, forward);
+
+        this.stats.stop();
+
+        return result;
+    }
+
+    /**
+     * Runs preprocessing and the selected backend.
+     * 
+     * @param csp generic puzzle structure.
+     * @param pre true if preprocessing requested.
+     * @param forward true if forward checking requested.
+     * @return list of cells of a solved puzzle.
+     */
+    private ArrayList<Cell> solvePuzzle(CSP csp, boolean pre, boolean forward) {
+        // If preprocessing requested.
+        if (pre) {
+            // If forward checking didn't find insonsistency.
+            if (this.preprocess(csp)) {
+                // If puzzle is complete.
+                if (this.isComplete(csp.getCells())) {
+                    this.solutions = 1;
+                    return csp.getCells();
+                }
+            } else {
+                return null;
+            }
+        }
+
+        // Exact cover search keeps no trail.
+        if (this.backend == Backend.DLX && !csp.hasSums()) {
+            this.trail.clear();
+            this.dlx = new DancingLinks();
+
+            // Catch a cancel that came before the search was published.
+            if (this.cancelled) {
+                return null;
+            }
+            this.dlx.setLimit(this.limit);
+
+            ArrayList<Cell> result = this.dlx.solve(csp, this.stats);
+
+            this.solutions = this.dlx.getSolutions();
+            return result;
+        }
+
+        return backtrackSearch(csp, forward || this.backend == Backend.DLX, pre);
+    }
+    
+    /**
+     * Wrapper function for a recursive depth-first search.
+     * 
+     * @param csp generic puzzle structure.
+     * @param forward true if forward checking requested.
+     * @param pre true if preprocessing already made the puzzle consistent.
+     * @return list of cells of a solved puzzle.
+     */
+    private ArrayList<Cell> backtrackSearch(CSP csp, boolean forward, boolean pre) {
+        // Forward checks only start from changed cells, so start consistent.
+        if (forward && !pre && !this.preprocess(csp)) {
+            return null;
+        }
+
+        // Preprocessing changes are final, start with an empty trail.
+        this.trail.clear();
+
+        // Track legal values of unassigned cells for MRV.
+        if (this.mrv) {
+            this.queue = new VarQueue(csp, csp.getSide());
+        } else {
+            this.queue = null;
+        }
+        this.trail.setQueue(this.queue);
+
+        // One buffer of ordered values for every level of the search.
+        this.orderedVals = new int[csp.getCells().size() + 1][csp.getSide()];
+
+        // Counts of ruled out values, one for every value of the board.
+        if (this.ruledOut.length != csp.getSide() + 1) {
+            this.ruledOut = new int[csp.getSide() + 1];
+        }
+
+        ArrayList<Cell> result = backtrack(csp, csp.getCells(), forward, 0);
+
+        this.trail.setQueue(null);
+        this.queue = null;
+
+        // Counting searches past the first solution, put it back.
+        if (this.limit > 1 && this.solutions > 0) {
+            for (int i = 0; i < this.first.length; i++) {
+                Cell cell = csp.getCellAt(i);
+
+                cell.setVal(this.first[i]);
+                cell.domainCollapse(this.first[i]);
+            }
+            return csp.getCells();
+        }
+        return result;
+    }
+
+    /**
+     * Counts a solution found by the search. Below the limit, the first 
+     * solution is saved and the search goes on.
+     * 
+     * @param csp generic puzzle structure.
+     * @param cells current assignment.
+     * @return cells if the limit was reached, null to search on.
+     */
+    private ArrayList<Cell> addSolution(CSP csp, ArrayList<Cell> cells) {
+        this.solutions++;
+
+        if (this.solutions >= this.limit) {
+            return cells;
+        }
+
+        // Save the values of the first solution.
+        if (this.solutions == 1) {
+            if (this.first.length != cells.size()) {
+                this.first = new int[cells.size()];
+            }
+
+            for (int i = 0; i < this.first.length; i++) {
+                this.first[i] = csp.getBoard().getVal(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Depth-first search algorithm. Selects unassigned variable in the csp, 
+     * picks a value, checks for consistency, and backtracks if failure found 
+     * down the road. Includes a forward checking switch. Every change made 
+     * at this level is saved on the trail and undone on backtrack.
+     * 
+     * @param csp generic puzzle structure.
+     * @param cells current assignemtn of cells of a puzzle.
+     * @param forward true if forward checking used.
+     * @param level number of assignments made by the search so far.
+     * @return list of cells of a spuzzle.
+     */
+    private ArrayList<Cell> backtrack(CSP csp, ArrayList<Cell> cells, boolean forward, int level) {
+        this.stats.addCall(level);
+
+        // Stop if the solver was cancelled.
+        if (this.cancelled) {
+            return null;
+        }
+
+        /**
+         * Check if puzzle is complete at this point.
+         */
+        if (this.isComplete(cells))
+            return this.addSolution(csp, cells);
+
+        Cell var = this.selectUnassignedVar(cells, this.mrv);
+
+        int[] vals = this.orderedVals[level];
+        int n = this.orderDomainVals(csp, var, vals);
+
+        // For every value in the cell's domain, in order.
+        for (int k = 0; k < n; k++) {
+            int val = vals[k];
+            this.stats.addNode();
+
+            // Check if assignemt will be consistent.
+            if (this.isConsistent(csp, var, val)) {
+                int mark = this.trail.mark();
+
+                this.trail.assign(var, val);
+
+                // Skip this value if forward check finds an issue.
+                if (forward && !this.forwardCheck(csp, var, mark)) {
+                    this.stats.addBacktrack();
+                    this.trail.undo(mark);
+                    continue;
+                }
+
+                ArrayList<Cell> result = backtrack(csp, cells, forward, level + 1);
+
+                // If backtrack was successful.
+                if (result != null) {
+                    return cells;
+                } else {
+                    this.stats.addBacktrack();
+                    this.trail.undo(mark);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks if assignment is complete.
+     * 
+     * @param cells current assignment.
+     * @return true if assignmetn is complete.
+     */
+    private boolean isComplete(ArrayList<Cell> cells) {
+        // Queue knows if unassigned cells are left.
+        if (this.queue != null) {
+            return this.queue.isEmpty();
+        }
+
+        // for each cell in the assignment.
+        for (Cell cell : cells) {
+            // Check if cell is empty.
+            if (cell.getVal() == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Selects an unassigned variable. With MRV, takes the cell with the 
+     * fewest legal values from the queue, otherwise the first empty cell.
+     * 
+     * @param cells current assignment.
+     * @param mrv true if MRV is used.
+     * @return cell (variable) picked for next assignment.
+     */
+    private Cell selectUnassignedVar(ArrayList<Cell> cells, boolean mrv) {
+        // Let the queue pick if MRV is used.
+        if (mrv) {
+            return this.queue.select();
+        }
+
+        // For each cell in the assignment.
+        for (Cell cell : cells) {
+            // Check if a cell is empty.
+            if (cell.getVal() == 0) {
+                return cell;
+            }
+        }
+        System.out.println("No unassigned variables.");
+        return null;
+    }
+
+    /**
+     * Orders values of a domain into a buffer, using the value ordering 
+     * strategy of the solver.
+     * 
+     * @param csp generic puzzle structure.
+     * @param var variable to order domain for.
+     * @param vals buffer to write ordered values to.
+     * @return number of values written.
+     */
+    private int orderDomainVals(CSP csp, Cell var, int[] vals) {
+        int n = 0;
+
+        // Write values lowest first.
+        for (int dom = var.getDomain(); dom != 0; dom = Domain.dropLowest(dom)) {
+            vals[n++] = Domain.lowest(dom);
+        }
+
+        // Sort values by how many peer values they rule out.
+        if (this.order == ValueOrder.LCV && n > 1) {
+            this.countRuledOut(csp, var);
+
+            // Insertion sort keeps lower values first on ties.
+            for (int i = 1; i < n; i++) {
+                int val = vals[i];
+                int j = i - 1;
+
+                while (j >= 0 && this.ruledOut[vals[j]] > this.ruledOut[val]) {
+                    vals[j + 1] = vals[j];
+                    j--;
+                }
+                vals[j + 1] = val;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Counts for every value in the domain of a variable how many unassigned 
+     * peers still have it in their domain, and would lose it if the 
+     * variable took that value. With MRV, only legal values of peers count.
+     * 
+     * @param csp generic puzzle structure.
+     * @param var variable to count for.
+     */
+    private void countRuledOut(CSP csp, Cell var) {
+        int varDom = var.getDomain();
+
+        // Reset counts.
+        for (int val = 1; val < this.ruledOut.length; val++) {
+            this.ruledOut[val] = 0;
+        }
+
+        Board board = csp.getBoard();
+
+        // For every unassigned peer of the variable.
+        for (int peer : csp.getPeers(var.getIndex())) {
+            if (board.getVal(peer) != 0) {
+                continue;
+            }
+
+            int peerDom = board.getDomain(peer);
+
+            // Queue knows values already taken by the peer's own peers.
+            if (this.queue != null) {
+                peerDom = this.queue.getLegal(peer);
+            }
+
+            // For every value shared by both domains.
+            for (int dom = varDom & peerDom; dom != 0; dom = Domain.dropLowest(dom)) {
+                this.ruledOut[Domain.lowest(dom)]++;
+            }
+        }
+    }
+
+    /**
+     * Checks if assignment is consistent.
+     * 
+     * @param csp generic puzzle structure.
+     * @param var variable to check for consistency.
+     * @param val to check consistency for.
+     * @return true if assignment is consistent.
+     */
+    private boolean isConsistent(CSP csp, Cell var, int val) {
+        Board board = csp.getBoard();
+
+        // For every peer of the variable.
+        for (int peer : csp.getPeers(var.getIndex())) {
+            // Check if it already contains the assigned value.
+            if (val == board.getVal(peer)) {
+                return false;
+            }
+        }
+
+        if (!csp.hasSums()) {
+            return true;
+        }
+
+        // Check if the sums of the variable's cages can still be reached.
+        for (int c : csp.getCellConstraints(var.getIndex())) {
+            if (!this.sum.allows(csp.getConstraintAt(c), var, val, csp.getSide())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Runs arc consistency on the whole puzzle. With the all-different 
+     * propagator or sum constraints, alternates full passes of arc 
+     * consistency and the propagators until nothing changes.
+     * 
+     * @param csp generic puzzle structure.
+     * @return true if puzzle is consistent so far.
+     */
+    private boolean preprocess(CSP csp) {
+        this.stats.addPropagation();
+
+        if (!ac3.ac3(csp)) {
+            return false;
+        }
+
+        // Repeat while the propagator pass changes domains.
+        while (this.allDiff != null || csp.hasSums()) {
+            int mark = this.trail.mark();
+
+            for (Constraint constraint : csp.getConstraints()) {
+                if (!this.propagate(csp, constraint)) {
+                    return false;
+                }
+            }
+
+            if (this.trail.mark() == mark) {
+                break;
+            }
+
+            if (!ac3.ac3(csp)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Forward checking algorithm. Runs AC-3 starting from the arcs that point 
+     * at the assigned variable, then the all-different propagator if it is 
+     * on, and the sum propagator if the puzzle has sums. Revised domains are 
+     * saved on the trail and kept until the search backtracks past this 
+     * assignment.
+     * 
+     * @param csp generic puzzle structure.
+     * @param var variable to forward check on.
+     * @param mark position of the trail before the assignment.
+     * @return true if forward check was successful.
+     */
+    private boolean forwardCheck(CSP csp, Cell var, int mark) {
+        this.stats.addPropagation();
+
+        if (!ac3.propagate(csp, var)) {
+            return false;
+        }
+
+        if (this.allDiff == null && !csp.hasSums()) {
+            return true;
+        }
+        return this.propagateConstraints(csp, mark);
+    }
+
+    /**
+     * Runs the propagator of a constraint's type: the sum propagator for 
+     * sums, the all-different propagator for the rest if it is on.
+     * 
+     * @param csp generic puzzle structure.
+     * @param constraint to propagate.
+     * @return false if the constraint can no longer be satisfied.
+     */
+    private boolean propagate(CSP csp, Constraint constraint) {
+        if (constraint.getType().equals("sum")) {
+            return this.sum.propagate(constraint, csp.getSide());
+        }
+        return this.allDiff == null || this.allDiff.propagate(constraint);
+    }
+
+    /**
+     * Runs the propagators on every constraint of the cells changed since 
+     * a trail position, and AC-3 on the cells they change, until neither 
+     * changes a domain.
+     * 
+     * @param csp generic puzzle structure.
+     * @param from position of the trail to start from.
+     * @return true if puzzle is consistent so far.
+     */
+    private boolean propagateConstraints(CSP csp, int from) {
+        int nCells = csp.getCells().size();
+
+        // Grow buffers for bigger puzzles.
+        if (this.dirty.length < csp.getConstraints().size()) {
+            this.dirty = new int[csp.getConstraints().size()];
+        }
+
+        if (this.changed.length < nCells) {
+            this.changed = new int[nCells];
+            this.seen = new int[nCells];
+        }
+
+        int done = from;
+
+        // Repeat while there are changes not propagated yet.
+        while (this.trail.mark() > done) {
+            int end = this.trail.mark();
+            this.stamp++;
+
+            // Propagate every constraint of a changed cell once.
+            for (int t = done; t < end; t++) {
+                for (int c : csp.getCellConstraints(this.trail.getCellAt(t).getIndex())) {
+                    if (this.dirty[c] == this.stamp) {
+                        continue;
+                    }
+                    this.dirty[c] = this.stamp;
+
+                    if (!this.propagate(csp, csp.getConstraintAt(c))) {
+                        return false;
+                    }
+                }
+            }
+            done = end;
+
+            int n = 0;
+
+            // Collect cells changed by the propagators, once each.
+            for (int t = end; t < this.trail.mark(); t++) {
+                int i = this.trail.getCellAt(t).getIndex();
+
+                if (this.seen[i] != this.stamp) {
+                    this.seen[i] = this.stamp;
+                    this.changed[n++] = i;
+                }
+            }
+
+            // Revise arcs pointing at the changed cells.
+            if (n > 0 && !ac3.propagate(csp, this.changed, n)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
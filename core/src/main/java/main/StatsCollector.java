@@ -0,0 +1,116 @@
+package main;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sums the metrics of many solves. Solver threads add their SolveStats when
+ * a solve finishes. Sums are kept in LongAdders, which spread updates over
+ * per-thread cells, so a batch on many cores does not fight over a single
+ * counter.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class StatsCollector {
+    private LongAdder solves = new LongAdder();
+    private LongAdder nodes = new LongAdder();
+    private LongAdder calls = new LongAdder();
+    private LongAdder backtracks = new LongAdder();
+    private LongAdder propagations = new LongAdder();
+    private LongAdder wallTime = new LongAdder();
+    private LongAdder allocated = new LongAdder();
+    private LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Adds the metrics of a finished solve.
+     * 
+     * @param stats of the solve.
+     */
+    public void add(SolveStats stats) {
+        this.solves.increment();
+        this.nodes.add(stats.getNodes());
+        this.calls.add(stats.getCalls());
+        this.backtracks.add(stats.getBacktracks());
+        this.propagations.add(stats.getPropagations());
+        this.wallTime.add(stats.getWallTime());
+        this.maxDepth.accumulate(stats.getMaxDepth());
+
+        // Skip allocations the JVM could not measure.
+        if (stats.getAllocated() > 0) {
+            this.allocated.add(stats.getAllocated());
+        }
+    }
+
+    /**
+     * Gets the number of solves added.
+     * 
+     * @return number of solves.
+     */
+    public long getSolves() {
+        return this.solves.sum();
+    }
+
+    /**
+     * Gets the total number of values tried.
+     * 
+     * @return sum of nodes.
+     */
+    public long getNodes() {
+        return this.nodes.sum();
+    }
+
+    /**
+     * Gets the total number of search calls.
+     * 
+     * @return sum of search calls.
+     */
+    public long getCalls() {
+        return this.calls.sum();
+    }
+
+    /**
+     * Gets the total number of backtracks.
+     * 
+     * @return sum of backtracks.
+     */
+    public long getBacktracks() {
+        return this.backtracks.sum();
+    }
+
+    /**
+     * Gets the total number of propagation runs.
+     * 
+     * @return sum of propagation runs.
+     */
+    public long getPropagations() {
+        return this.propagations.sum();
+    }
+
+    /**
+     * Gets the deepest level reached by any solve.
+     * 
+     * @return maximum search depth.
+     */
+    public long getMaxDepth() {
+        return this.maxDepth.get();
+    }
+
+    /**
+     * Gets the total wall time of all solves.
+     * 
+     * @return sum of wall times in nanoseconds.
+     */
+    public long getWallTime() {
+        return this.wallTime.sum();
+    }
+
+    /**
+     * Gets the total bytes allocated by all solves.
+     * 
+     * @return sum of allocated bytes.
+     */
+    public long getAllocated() {
+        return this.allocated.sum();
+    }
+}
@@ -0,0 +1,336 @@
+package main;
+
+/**
+ * Implements the propagator for "sum" constraints, the cages of killer 
+ * sudoku. Values of a cage are all different and add up to the sum of the 
+ * cage. For every cage size and sum, a table lists the sets of values that 
+ * add up to it, as bit masks (see Domain), built once for a board size. A 
+ * set still fits a cage if it holds every value fixed in the cage and 
+ * every cell can take one of its values, and cells keep only values of sets 
+ * that fit. Boards too big for the tables are pruned by bounds instead: a 
+ * value is kept if the other free cells can still reach the rest of the 
+ * sum with their smallest and largest values.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class Sum {
+    private static final int MAX_TABLE_SIDE = 16;
+
+    private Trail trail;
+    private int side;
+    private int maxSum;
+    private int[][] combos;
+    private Cell[] cells = new Cell[0];
+    private int[] doms = new int[0];
+
+    /**
+     * Constructor for the propagator that does not record its changes.
+     */
+    public Sum() {
+        this(null);
+    }
+
+    /**
+     * Constructor for the propagator that saves every changed cell on a
+     * trail, so the search can undo the changes on backtrack.
+     * 
+     * @param trail to save changed cells on.
+     */
+    public Sum(Trail trail) {
+        this.trail = trail;
+    }
+
+    /**
+     * Runs the propagator on a single constraint. Constraints of other
+     * types are left alone.
+     * 
+     * @param constraint to propagate.
+     * @param side of the board, the largest value of a cell.
+     * @return false if the constraint can no longer be satisfied.
+     */
+    public boolean propagate(Constraint constraint, int side) {
+        if (!constraint.getType().equals("sum")) {
+            return true;
+        }
+
+        int n = constraint.getCellsSize();
+        int fixed = 0;
+        int all = 0;
+
+        this.load(constraint);
+
+        // Collect fixed values, a value fixed twice breaks the cage.
+        for (int i = 0; i < n; i++) {
+            if (Domain.size(this.doms[i]) == 1) {
+                if ((fixed & this.doms[i]) != 0) {
+                    return false;
+                }
+                fixed |= this.doms[i];
+            }
+            all |= this.doms[i];
+        }
+
+        if (side > MAX_TABLE_SIDE) {
+            return this.propagateBounds(constraint.getSum(), n, fixed, all);
+        }
+
+        if (side != this.side) {
+            this.buildTable(side);
+        }
+
+        if (n > side || constraint.getSum() > this.maxSum) {
+            return false;
+        }
+
+        int fits = 0;
+
+        // Keep sets with every fixed value, that every cell can use.
+        for (int set : this.combos[n * (this.maxSum + 1) + constraint.getSum()]) {
+            if ((set & fixed) != fixed || (set & ~all) != 0) {
+                continue;
+            }
+
+            boolean covered = true;
+
+            for (int i = 0; i < n && covered; i++) {
+                covered = (this.doms[i] & set) != 0;
+            }
+
+            if (covered) {
+                fits |= set;
+            }
+        }
+
+        // Remove values of no set that fits, and fixed values of other cells.
+        for (int i = 0; i < n; i++) {
+            int dom = this.doms[i] & fits;
+
+            if (Domain.size(this.doms[i]) > 1) {
+                dom &= ~fixed;
+            }
+
+            if (dom == 0) {
+                return false;
+            }
+
+            if (dom != this.doms[i]) {
+                this.setDomain(i, dom);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if assigning a value to a cell keeps a constraint satisfiable, 
+     * from the values assigned so far. The other empty cells of the cage 
+     * must be able to reach the rest of the sum with values not used yet.
+     * 
+     * @param constraint to check.
+     * @param var cell about to be assigned.
+     * @param val to assign.
+     * @param side of the board, the largest value of a cell.
+     * @return true if the sum can still be reached.
+     */
+    public boolean allows(Constraint constraint, Cell var, int val, int side) {
+        if (!constraint.getType().equals("sum")) {
+            return true;
+        }
+
+        int rest = constraint.getSum() - val;
+        int used = Domain.of(val);
+        int free = 0;
+
+        // Subtract assigned values, and count empty cells.
+        for (int i = 0; i < constraint.getCellsSize(); i++) {
+            Cell cell = constraint.getCellAt(i);
+
+            if (cell == var) {
+                continue;
+            }
+
+            if (cell.getVal() == 0) {
+                free++;
+            } else {
+                rest -= cell.getVal();
+                used |= Domain.of(cell.getVal());
+            }
+        }
+
+        int left = Domain.full(side) & ~used;
+
+        return free <= Domain.size(left)
+                && lowestSum(left, free) <= rest && rest <= highestSum(left, free);
+    }
+
+    /**
+     * Prunes the cells of a cage by bounds. A value of a free cell is kept 
+     * if the rest of the sum lies between the smallest and the largest sum 
+     * the other free cells can make.
+     * 
+     * @param sum of the cage.
+     * @param n number of cells in the cage.
+     * @param fixed values fixed in the cage.
+     * @param all values of every domain in the cage.
+     * @return false if the constraint can no longer be satisfied.
+     */
+    private boolean propagateBounds(int sum, int n, int fixed, int all) {
+        int rest = sum;
+        int free = 0;
+
+        // Subtract fixed values, and count free cells.
+        for (int i = 0; i < n; i++) {
+            if (Domain.size(this.doms[i]) == 1) {
+                rest -= Domain.lowest(this.doms[i]);
+            } else {
+                free++;
+            }
+        }
+
+        if (free == 0) {
+            return rest == 0;
+        }
+
+        int open = all & ~fixed;
+
+        // For every value of every free cell.
+        for (int i = 0; i < n; i++) {
+            if (Domain.size(this.doms[i]) == 1) {
+                continue;
+            }
+
+            int dom = this.doms[i] & ~fixed;
+
+            for (int vals = dom; vals != 0; vals = Domain.dropLowest(vals)) {
+                int val = Domain.lowest(vals);
+                int others = open & ~Domain.of(val);
+
+                // Remove the value if the other free cells can't make the rest.
+                if (free - 1 > Domain.size(others)
+                        || lowestSum(others, free - 1) > rest - val
+                        || highestSum(others, free - 1) < rest - val) {
+                    dom &= ~Domain.of(val);
+                }
+            }
+
+            if (dom == 0) {
+                return false;
+            }
+
+            if (dom != this.doms[i]) {
+                this.setDomain(i, dom);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds the table of value sets for a board size. Sets are listed by 
+     * the number of values and their sum, every set of values once.
+     * 
+     * @param side of the board, the largest value of a cell.
+     */
+    private void buildTable(int side) {
+        int sets = 1 << side;
+        int[] sums = new int[sets];
+
+        this.side = side;
+        this.maxSum = side * (side + 1) / 2;
+        this.combos = new int[(side + 1) * (this.maxSum + 1)][];
+
+        int[] counts = new int[this.combos.length];
+
+        // Sum up every set from the set without its lowest value.
+        for (int set = 1; set < sets; set++) {
+            sums[set] = sums[Domain.dropLowest(set)] + Domain.lowest(set);
+            counts[Domain.size(set) * (this.maxSum + 1) + sums[set]]++;
+        }
+
+        // Size every list to its count.
+        for (int k = 0; k < this.combos.length; k++) {
+            this.combos[k] = new int[counts[k]];
+            counts[k] = 0;
+        }
+
+        // List every set under its size and sum.
+        for (int set = 1; set < sets; set++) {
+            int k = Domain.size(set) * (this.maxSum + 1) + sums[set];
+            this.combos[k][counts[k]++] = set;
+        }
+    }
+
+    /**
+     * Sums the smallest values of a domain.
+     * 
+     * @param dom domain mask.
+     * @param count number of values to sum.
+     * @return sum of the smallest values.
+     */
+    private static int lowestSum(int dom, int count) {
+        int sum = 0;
+
+        // Take values lowest first.
+        for (int k = 0; k < count && dom != 0; k++) {
+            sum += Domain.lowest(dom);
+            dom = Domain.dropLowest(dom);
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the largest values of a domain.
+     * 
+     * @param dom domain mask.
+     * @param count number of values to sum.
+     * @return sum of the largest values.
+     */
+    private static int highestSum(int dom, int count) {
+        int sum = 0;
+
+        // Take values highest first.
+        for (int k = 0; k < count && dom != 0; k++) {
+            int val = 32 - Integer.numberOfLeadingZeros(dom);
+
+            sum += val;
+            dom &= ~Domain.of(val);
+        }
+        return sum;
+    }
+
+    /**
+     * Copies cells and domains of a constraint into the buffers.
+     * 
+     * @param constraint to load.
+     */
+    private void load(Constraint constraint) {
+        int n = constraint.getCellsSize();
+
+        // Grow buffers for bigger constraints.
+        if (this.doms.length < n) {
+            this.cells = new Cell[n];
+            this.doms = new int[n];
+        }
+
+        for (int i = 0; i < n; i++) {
+            this.cells[i] = constraint.getCellAt(i);
+            this.doms[i] = this.cells[i].getDomain();
+        }
+    }
+
+    /**
+     * Sets the domain of a cell in the constraint, through the trail if
+     * changes are tracked.
+     * 
+     * @param i position of the cell in the constraint.
+     * @param domain mask to set.
+     */
+    private void setDomain(int i, int domain) {
+        this.doms[i] = domain;
+
+        if (this.trail != null) {
+            this.trail.setDomain(this.cells[i], domain);
+        } else {
+            this.cells[i].setDomain(domain);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package main;
+
+/**
+ * Implements the trail (undo log) used by the backtracking search. Before a
+ * cell is changed, its value and domain are pushed on the trail. Each
+ * decision level remembers the size of the trail when it started, and on
+ * backtrack only the changes made since then are rolled back, so the cost of
+ * undoing is proportional to what changed rather than to the whole board. 
+ * If a variable queue is attached, it is updated with every change.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class Trail {
+    private Cell[] cells;
+    private int[] vals;
+    private int[] doms;
+    private int size;
+    private VarQueue queue;
+
+    /**
+     * Constructor initializing variables.
+     */
+    public Trail() {
+        this.cells = new Cell[256];
+        this.vals = new int[256];
+        this.doms = new int[256];
+        this.size = 0;
+    }
+
+    /**
+     * Attaches a variable queue to update with every change made or undone 
+     * through the trail.
+     * 
+     * @param queue to update, null to detach.
+     */
+    public void setQueue(VarQueue queue) {
+        this.queue = queue;
+    }
+
+    /**
+     * Gets the current position of the trail. Passing it to undo() later
+     * rolls back every change saved after this call.
+     * 
+     * @return current size of the trail.
+     */
+    public int mark() {
+        return this.size;
+    }
+
+    /**
+     * Gets the cell saved at a position of the trail.
+     * 
+     * @param i position in the trail.
+     * @return cell saved at that position.
+     */
+    public Cell getCellAt(int i) {
+        return this.cells[i];
+    }
+
+    /**
+     * Saves the value and domain of a cell before it is changed.
+     * 
+     * @param cell about to be changed.
+     */
+    public void save(Cell cell) {
+        // Grow the trail if it is full.
+        if (this.size == this.cells.length) {
+            this.grow();
+        }
+        this.cells[this.size] = cell;
+        this.vals[this.size] = cell.getVal();
+        this.doms[this.size] = cell.getDomain();
+        this.size++;
+    }
+
+    /**
+     * Assigns a value to a cell, saving its previous state.
+     * 
+     * @param cell to assign.
+     * @param val to assign.
+     */
+    public void assign(Cell cell, int val) {
+        this.save(cell);
+        cell.setVal(val);
+        cell.domainCollapse(val);
+
+        if (this.queue != null) {
+            this.queue.update(cell);
+        }
+    }
+
+    /**
+     * Sets the domain of a cell, saving its previous state.
+     * 
+     * @param cell to change.
+     * @param domain mask to set.
+     */
+    public void setDomain(Cell cell, int domain) {
+        this.save(cell);
+        cell.setDomain(domain);
+
+        if (this.queue != null) {
+            this.queue.update(cell);
+        }
+    }
+
+    /**
+     * Rolls back every change saved after the mark, newest first.
+     * 
+     * @param mark position of the trail to roll back to.
+     */
+    public void undo(int mark) {
+        // Restore cells until the trail is back at the mark.
+        while (this.size > mark) {
+            this.size--;
+            Cell cell = this.cells[this.size];
+            cell.setVal(this.vals[this.size]);
+            cell.setDomain(this.doms[this.size]);
+            this.cells[this.size] = null;
+
+            if (this.queue != null) {
+                this.queue.update(cell);
+            }
+        }
+    }
+
+    /**
+     * Forgets every saved change without restoring it.
+     */
+    public void clear() {
+        // Drop references so cells can be collected.
+        for (int i = 0; i < this.size; i++) {
+            this.cells[i] = null;
+        }
+        this.size = 0;
+    }
+
+    /**
+     * Doubles the capacity of the trail.
+     */
+    private void grow() {
+        int n = this.cells.length * 2;
+        Cell[] newCells = new Cell[n];
+        int[] newVals = new int[n];
+        int[] newDoms = new int[n];
+
+        System.arraycopy(this.cells, 0, newCells, 0, this.size);
+        System.arraycopy(this.vals, 0, newVals, 0, this.size);
+        System.arraycopy(this.doms, 0, newDoms, 0, this.size);
+
+        this.cells = newCells;
+        this.vals = newVals;
+        this.doms = newDoms;
+    }
+}
@@ -0,0 +1,313 @@
+package main;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * Implements the writer for the program. Writes both solutions and log files.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class Writer {
+
+    /**
+     * Writes solved puzzle to the file. Values are padded to the same width, 
+     * so the squares of larger puzzles line up. Multi-grid puzzles are 
+     * written as their canvas, with blanks where no grid lies.
+     * 
+     * @param type of the puzzle.
+     * @param id of the puzzle.
+     * @param cells of the puzzle.
+     */
+    public void writeSolution(String type, String id, ArrayList<Cell> cells) {
+        StringBuilder text = new StringBuilder();
+
+        // Check if writing a known type of puzzle.
+        if (type.equals("classic") || type.equals("killer") || type.equals("triple")
+                || type.equals("samurai")) {
+            Layout layout = Layout.forType(type, cells.size());
+            int sqrSize = layout.getSqrSize();
+            int width = String.valueOf(layout.getSide()).length();
+
+            // For every row of the canvas.
+            for (int row = 0; row < layout.getHeight(); row++) {
+                // For every col of the canvas.
+                for (int col = 0; col < layout.getWidth(); col++) {
+                    int i = layout.getCanvasIndex(row, col);
+                    String val = i < 0 ? "" : String.valueOf(cells.get(i).getVal());
+
+                    // Pad the value to the width of the largest one.
+                    for (int pad = val.length(); pad < width; pad++) {
+                        text.append(' ');
+                    }
+                    text.append(val).append(' ');
+
+                    // Insert a space every square.
+                    if ((col + 1) % sqrSize == 0) {
+                        text.append(' ');
+                    }
+                }
+                text.append('\n');
+
+                // Insert an extra new line every row of squares.
+                if ((row + 1) % sqrSize == 0) {
+                    text.append('\n');
+                }
+            }
+        }
+
+        // Writer exception handling.
+        try {
+            File file = this.createFile("data/solutions/" + type + "_" + id + "-sol.txt");
+            FileWriter myWriter = new FileWriter(file.getPath());
+
+            myWriter.write(text.toString());
+            myWriter.close();
+
+          } catch (IOException ioe) {
+            System.out.println("Error writing file \"data/solutions/" + type + "_" + id + ".txt\"");
+            ioe.printStackTrace();
+          }
+    }
+
+    /**
+     * Writes a log file.
+     * 
+     * @param type of the puzzle.
+     * @param expandedP avg variables expanded for plain DFS.
+     * @param depthP avg tree depth for plain DFS.
+     * @param timeP avg exe time for plain DFS.
+     * @param expandedAavg variables expanded for AC-3 preprocessing.
+     * @param depthA avg tree depth for AC-3 preprocessing.
+     * @param timeA avg exe time for AC-3 preprocessing.
+     * @param expandedF avg variables expanded for forward checking.
+     * @param depthF avg tree depth for forward checking.
+     * @param timeF avg exe time for forward checking.
+     */
+    public void writeLog(String type, double expP, double depP, double timeP,
+            double expA, double depA, double timeA, 
+            double expF, double depF, double timeF) {
+        
+        // Writer exception handling.
+        try {
+            File file = this.createFile("data/log.txt");
+
+            FileWriter myWriter = new FileWriter(file.getPath(), true);
+
+            myWriter.write( "************************" + "\n" +
+                            "type:          " + type   + "\n" +
+                            "========================" + "\n" +
+                            "plain DFS"                + "\n" +
+                            "------------------------" + "\n" +
+                            "expanded:      " + expP   + "\n" +
+                            "depth:         " + depP   + "\n" +
+                            "execTime (ms): " + timeP  + "\n" +
+                            "========================" + "\n" +
+                            "AC-3 preprocessing"       + "\n" +
+                            "------------------------" + "\n" +
+                            "expanded:      " + expA   + "\n" +
+                            "depth:         " + depA   + "\n" +
+                            "execTime (ms): " + timeA  + "\n" +
+                            "========================" + "\n" +
+                            "forward checking"         + "\n" +
+                            "------------------------" + "\n" +
+                            "expanded:      " + expF   + "\n" +
+                            "depth:         " + depF   + "\n" +
+                            "execTime (ms): " + timeF  + "\n" +
+                            "************************" + "\n" +
+                            ""                         + "\n");
+
+            myWriter.close();
+
+            } catch (IOException ioe) {
+            System.out.println("Error writing file \"log\"");
+            ioe.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes a log entry for a portfolio run.
+     * 
+     * @param type of the puzzle.
+     * @param names of the configurations.
+     * @param wins number of puzzles won by each configuration.
+     * @param time avg exe time of the race.
+     * @param maxTime worst exe time of the race.
+     */
+    public void writePortfolioLog(String type, String[] names, int[] wins, 
+            double time, double maxTime) {
+
+        // Writer exception handling.
+        try {
+            File file = this.createFile("data/log.txt");
+
+            FileWriter myWriter = new FileWriter(file.getPath(), true);
+
+            myWriter.write( "************************" + "\n" +
+                            "type:          " + type   + "\n" +
+                            "========================" + "\n" +
+                            "portfolio"                + "\n" +
+                            "------------------------" + "\n");
+
+            // Write wins of every configuration.
+            for (int i = 0; i < names.length; i++) {
+                myWriter.write("wins:          " + wins[i] + " (" + names[i] + ")\n");
+            }
+
+            myWriter.write( "execTime (ms): " + time    + "\n" +
+                            "maxTime (ms):  " + maxTime + "\n" +
+                            "************************"  + "\n" +
+                            ""                          + "\n");
+
+            myWriter.close();
+
+        } catch (IOException ioe) {
+            System.out.println("Error writing file \"log\"");
+            ioe.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes a log entry for a run with a split search.
+     * 
+     * @param type of the puzzle.
+     * @param splitDepth number of search levels split into tasks.
+     * @param expanded avg variables expanded by all subtrees.
+     * @param time avg exe time.
+     * @param maxTime worst exe time.
+     */
+    public void writeSplitLog(String type, int splitDepth, double expanded, 
+            double time, double maxTime) {
+
+        // Writer exception handling.
+        try {
+            File file = this.createFile("data/log.txt");
+
+            FileWriter myWriter = new FileWriter(file.getPath(), true);
+
+            myWriter.write( "************************"   + "\n" +
+                            "type:          " + type     + "\n" +
+                            "========================"   + "\n" +
+                            "split search, depth " + splitDepth + "\n" +
+                            "------------------------"   + "\n" +
+                            "expanded:      " + expanded + "\n" +
+                            "execTime (ms): " + time     + "\n" +
+                            "maxTime (ms):  " + maxTime  + "\n" +
+                            "************************"   + "\n" +
+                            ""                           + "\n");
+
+            myWriter.close();
+
+        } catch (IOException ioe) {
+            System.out.println("Error writing file \"log\"");
+            ioe.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes a log entry for a run of the puzzle generator.
+     * 
+     * @param difficulty of the puzzles.
+     * @param count number of puzzles generated.
+     * @param expanded avg variables expanded by the rating solve.
+     * @param backtracks avg backtracks of the rating solve.
+     * @param propagations avg propagation passes of the rating solve.
+     * @param depth deepest level of any rating solve.
+     * @param avgTime avg time to generate a puzzle.
+     */
+    public void writeGeneratorLog(String difficulty, long count, double expanded, 
+            double backtracks, double propagations, long depth, double avgTime) {
+
+        // Writer exception handling.
+        try {
+            File file = this.createFile("data/log.txt");
+
+            FileWriter myWriter = new FileWriter(file.getPath(), true);
+
+            myWriter.write( "************************"     + "\n" +
+                            "type:          classic"       + "\n" +
+                            "========================"     + "\n" +
+                            "generator"                    + "\n" +
+                            "------------------------"     + "\n" +
+                            "difficulty:    " + difficulty + "\n" +
+                            "puzzles:       " + count      + "\n" +
+                            "expanded:      " + expanded   + "\n" +
+                            "backtracks:    " + backtracks + "\n" +
+                            "propagations:  " + propagations + "\n" +
+                            "maxDepth:      " + depth      + "\n" +
+                            "execTime (ms): " + avgTime    + "\n" +
+                            "************************"     + "\n" +
+                            ""                             + "\n");
+
+            myWriter.close();
+
+        } catch (IOException ioe) {
+            System.out.println("Error writing file \"log\"");
+            ioe.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes a log entry for a run over a file with one puzzle per line.
+     * 
+     * @param type of the puzzle.
+     * @param count number of puzzles solved.
+     * @param expanded avg variables expanded.
+     * @param time total exe time.
+     * @param avgTime avg exe time per puzzle.
+     */
+    public void writeLinesLog(String type, long count, double expanded, 
+            double time, double avgTime) {
+
+        // Writer exception handling.
+        try {
+            File file = this.createFile("data/log.txt");
+
+            FileWriter myWriter = new FileWriter(file.getPath(), true);
+
+            myWriter.write( "************************"   + "\n" +
+                            "type:          " + type     + "\n" +
+                            "========================"   + "\n" +
+                            "puzzle lines"               + "\n" +
+                            "------------------------"   + "\n" +
+                            "puzzles:       " + count    + "\n" +
+                            "expanded:      " + expanded + "\n" +
+                            "totalTime (ms): " + time    + "\n" +
+                            "execTime (ms): " + avgTime  + "\n" +
+                            "************************"   + "\n" +
+                            ""                           + "\n");
+
+            myWriter.close();
+
+        } catch (IOException ioe) {
+            System.out.println("Error writing file \"log\"");
+            ioe.printStackTrace();
+        }
+    }
+
+    /**
+     * Creates a file for writing.
+     * 
+     * @param filename of the file.
+     * @return handle of the file.
+     */
+    private File createFile(String filename) {
+
+        // Writer exception handling
+        try {
+            File file = new File(filename);
+            
+            file.createNewFile();
+            
+            return file;
+          } catch (IOException ioe) {
+            System.out.println("Error opening file \"" + filename + "\"");
+            ioe.printStackTrace();
+
+            return null;
+        }
+    }
+}
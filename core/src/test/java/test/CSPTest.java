@@ -0,0 +1,200 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import main.Board;
+import main.CSP;
+import main.Cell;
+import main.Layout;
+import main.Reader;
+
+/**
+ * Test for CSP class.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class CSPTest {
+    Reader reader;
+    CSP csp;
+    ArrayList<Cell> cells;
+
+    /**
+     * Constructor initializing variables.
+     */
+    public CSPTest() {
+        reader = new Reader();
+    }
+
+    /**
+     * Tests createConstraints function. Creates constraints, and then
+     * checks if some constraints contain expected values at expected 
+     * locations.
+     */
+    @Test
+    public void createConstraintsTest() {
+        cells = reader.readFile("data/puzzles/classic_1.txt");
+        csp = new CSP("classic", "1", cells);
+        
+        // Test Row Constraints
+        assertEquals(7, csp.getConstraintAt(0).getCellValAt(0));
+        assertEquals(0, csp.getConstraintAt(0).getCellValAt(3));
+        assertEquals(0, csp.getConstraintAt(4).getCellValAt(6));
+        assertEquals(9, csp.getConstraintAt(7).getCellValAt(4));
+
+        // Test Col Constriants
+        assertEquals(0, csp.getConstraintAt(9).getCellValAt(3));
+        assertEquals(8, csp.getConstraintAt(12).getCellValAt(4));
+        assertEquals(0, csp.getConstraintAt(15).getCellValAt(6));
+        assertEquals(0, csp.getConstraintAt(17).getCellValAt(8));
+
+        // Test Square Constraints
+        assertEquals(4, csp.getConstraintAt(18).getCellValAt(7));
+        assertEquals(0, csp.getConstraintAt(23).getCellValAt(1));
+        assertEquals(3, csp.getConstraintAt(24).getCellValAt(6));
+        assertEquals(9, csp.getConstraintAt(26).getCellValAt(7));
+    }
+
+    /**
+     * Tests the cell index. Checks if a cell knows its constraints and if 
+     * each of its peers is listed once.
+     */
+    @Test
+    public void cellIndexTest() {
+        cells = reader.readFile("data/puzzles/classic_1.txt");
+        csp = new CSP("classic", "1", cells);
+
+        assertEquals(40, cells.get(40).getIndex());
+        assertArrayEquals(new int[] {4, 13, 22}, csp.getCellConstraints(40));
+        assertArrayEquals(new int[] {0, 9, 18}, csp.getCellConstraints(0));
+
+        int[] peers = csp.getPeers(0);
+
+        assertEquals(20, peers.length);
+        assertEquals(1, peers[0]);
+        assertEquals(9, peers[8]);
+        assertEquals(10, peers[16]);
+        assertEquals(20, peers[19]);
+    }
+
+    /**
+     * Tests the board. Checks if cells write through to the board, if a 
+     * copy of the puzzle can be changed without touching the original, and 
+     * if a puzzle over another board shares the index.
+     */
+    @Test
+    public void copyTest() {
+        cells = reader.readFile("data/puzzles/classic_1.txt");
+        csp = new CSP("classic", "1", cells);
+
+        cells.get(1).setVal(3);
+        assertEquals(3, csp.getBoard().getVal(1));
+
+        CSP copy = csp.copy();
+
+        copy.getCellAt(2).setVal(6);
+        copy.getCellAt(2).domainCollapse(6);
+
+        assertEquals(3, copy.getCellAt(1).getVal());
+        assertEquals(6, copy.getConstraintAt(0).getCellValAt(2));
+        assertEquals(0, cells.get(2).getVal());
+        assertEquals(9, cells.get(2).getDomainSize());
+
+        csp.getBoard().copyFrom(copy.getBoard());
+        assertEquals(6, cells.get(2).getVal());
+
+        // A puzzle over another board shares the index.
+        CSP other = csp.withBoard("2", copy.getBoard().copy());
+
+        assertEquals("2", other.getId());
+        assertSame(csp.getPeers(0), other.getPeers(0));
+        assertEquals(6, other.getConstraintAt(0).getCellValAt(2));
+        assertThrows(IllegalArgumentException.class, () -> csp.withBoard("3", new Board(256)));
+    }
+
+    /**
+     * Tests larger boards. Reads a 16x16 and a 25x25 puzzle, and checks the 
+     * constraints, the index and the domains sized for the board. Checks if 
+     * a number of cells that makes no board, or a board smaller than 9x9, is 
+     * refused.
+     */
+    @Test
+    public void largeBoardTest() {
+        // Both larger sizes.
+        for (int side : new int[] {16, 25}) {
+            int sqrSize = (int) Math.sqrt(side);
+
+            cells = reader.readFile("data/large/classic_" + side + "x" + side + ".txt");
+            csp = new CSP("classic", "1", cells);
+
+            assertEquals(side * side, cells.size());
+            assertEquals(side, csp.getSide());
+            assertEquals(sqrSize, csp.getSqrSize());
+            assertEquals(3 * side, csp.getConstraints().size());
+            assertEquals(side, csp.getConstraintAt(2 * side).getCellsSize());
+            assertEquals(side + 1, csp.getConstraintAt(2 * side).getCellAt(sqrSize + 1).getIndex());
+            assertArrayEquals(new int[] {1, side + 1, 2 * side}, csp.getCellConstraints(side + 1));
+            assertEquals(3 * (side - 1) - 2 * (sqrSize - 1), csp.getPeers(0).length);
+
+            // Empty cells hold every value of the board.
+            for (Cell cell : cells) {
+                assertEquals(cell.getVal() == 0 ? side : 1, cell.getDomainSize());
+            }
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new CSP("classic", "1", new Board(80)));
+        assertThrows(IllegalArgumentException.class, () -> new CSP("classic", "1", new Board(16)));
+        assertThrows(IllegalArgumentException.class, () -> new CSP("classic", "1", new Board(1)));
+        assertThrows(IllegalArgumentException.class, () -> new CSP("classic", "1", new Board(36 * 36)));
+    }
+
+    /**
+     * Tests the layout of multi-grid puzzles, where grids share squares.
+     */
+    @Test
+    public void multiGridTest() {
+        Layout triple = Layout.triple();
+        Layout samurai = Layout.samurai();
+
+        assertEquals(225, triple.size());
+        assertEquals(21, triple.getWidth());
+        assertEquals(369, samurai.size());
+        assertEquals(21, samurai.getHeight());
+        assertEquals(-1, samurai.getCanvasIndex(0, 9));
+
+        // The bottom right square of a grid is the top left of the next.
+        assertEquals(triple.getIndex(0, 6, 6), triple.getIndex(1, 0, 0));
+        assertEquals(triple.getIndex(1, 8, 8), triple.getIndex(2, 2, 2));
+        assertEquals(samurai.getIndex(4, 0, 0), samurai.getIndex(2, 6, 6));
+
+        cells = new ArrayList<Cell>();
+
+        // Every cell empty, placed on the canvas.
+        for (int i = 0; i < samurai.size(); i++) {
+            cells.add(new Cell(0, samurai.getRow(i), samurai.getCol(i), 9));
+        }
+        csp = new CSP("samurai", "1", cells, samurai);
+
+        // Rows and cols of every grid, squares shared by two grids once.
+        assertEquals(5 * 27 - 4, csp.getConstraints().size());
+        assertEquals(9, csp.getSide());
+
+        int shared = samurai.getIndex(2, 0, 0);
+        int corner = samurai.getIndex(0, 0, 0);
+
+        // A shared cell sees the rows and cols of both grids.
+        assertEquals(5, csp.getCellConstraints(shared).length);
+        assertEquals(3, csp.getCellConstraints(corner).length);
+        assertEquals(20 + 12, csp.getPeers(shared).length);
+        assertEquals(20, csp.getPeers(corner).length);
+
+        assertThrows(IllegalArgumentException.class, () -> new CSP("triple", "1", cells, triple));
+    }
+}
@@ -0,0 +1,71 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import main.CSP;
+import main.Cell;
+import main.Reader;
+import main.Solver;
+
+/**
+ * Test for DancingLinks class.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class DancingLinksTest {
+    Reader reader;
+    ArrayList<Cell> cells;
+    CSP csp;
+    Solver solver;
+
+    /**
+     * Constructor initializing variables.
+     */
+    public DancingLinksTest() {
+        reader = new Reader();
+        solver = new Solver();
+        solver.setBackend(Solver.Backend.DLX);
+    }
+
+    /**
+     * Tests solving with the Dancing Links backend. Solves every puzzle, 
+     * with and without preprocessing, and checks if every cell matches the 
+     * known solution.
+     */
+    @Test
+    public void solveTest() {
+        // For every puzzle in the data folder.
+        for (int id = 1; id <= 10; id++) {
+            ArrayList<Cell> solution = reader.readFile("data/solutions/classic_" + id + "-sol.txt");
+
+            for (int mode = 0; mode < 2; mode++) {
+                cells = reader.readFile("data/puzzles/classic_" + id + ".txt");
+                csp = new CSP("classic", String.valueOf(id), cells);
+
+                solver.solve(csp, mode == 1, false);
+
+                for (int i = 0; i < 81; i++) {
+                    assertEquals(solution.get(i).getVal(), cells.get(i).getVal());
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that a puzzle with two equal values in a row has no solution.
+     */
+    @Test
+    public void noSolutionTest() {
+        cells = reader.readFile("data/puzzles/classic_1.txt");
+        cells.set(1, new Cell(7, 0, 1));
+        csp = new CSP("classic", "1", cells);
+
+        assertNull(solver.solve(csp, false, false));
+    }
+}
@@ -0,0 +1,95 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import main.CSP;
+import main.Generator;
+import main.Solver;
+
+/**
+ * Test for Generator class.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class GeneratorTest {
+    Generator generator;
+    Solver solver;
+
+    /**
+     * Constructor initializing variables.
+     */
+    public GeneratorTest() {
+        generator = new Generator(9);
+        solver = new Solver();
+    }
+
+    /**
+     * Tests generating a puzzle. Checks if the puzzle has exactly one
+     * solution, and if the same seed makes the same puzzle.
+     */
+    @Test
+    public void generateTest() {
+        CSP csp = generator.generate(7, "1");
+        CSP again = generator.generate(7, "1");
+        int clues = 0;
+
+        // Same clues from the same seed.
+        for (int i = 0; i < 81; i++) {
+            assertEquals(csp.getCellAt(i).getVal(), again.getCellAt(i).getVal());
+
+            if (csp.getCellAt(i).getVal() != 0) {
+                clues++;
+            }
+        }
+
+        assertTrue(clues >= 17 && clues < 40);
+        assertEquals(1, solver.countSolutions(csp, false, true, 2));
+        assertEquals(2, generator.getStats().getSolves());
+        assertThrows(IllegalArgumentException.class, () -> new Generator(10));
+    }
+
+    /**
+     * Tests generating a batch of puzzles of a difficulty in parallel.
+     * Checks if every puzzle has the difficulty and matches the puzzle made
+     * from its seed alone.
+     * 
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws ExecutionException if generating a puzzle failed.
+     */
+    @Test
+    public void generateBatchTest() throws InterruptedException, ExecutionException {
+        ForkJoinPool pool = new ForkJoinPool(2);
+
+        // Every difficulty.
+        for (Generator.Difficulty difficulty : Generator.Difficulty.values()) {
+            generator.setDifficulty(difficulty);
+
+            List<CSP> puzzles = generator.generate(pool, 4, 100);
+
+            assertEquals(4, puzzles.size());
+
+            // Every puzzle of the batch.
+            for (int k = 0; k < puzzles.size(); k++) {
+                CSP csp = puzzles.get(k);
+                CSP alone = generator.generate(100 + k, "0");
+
+                assertEquals(String.valueOf(k + 1), csp.getId());
+                assertEquals(difficulty, Generator.difficultyOf(generator.rate(csp)));
+
+                for (int i = 0; i < 81; i++) {
+                    assertEquals(alone.getCellAt(i).getVal(), csp.getCellAt(i).getVal());
+                }
+            }
+        }
+        pool.shutdown();
+    }
+}
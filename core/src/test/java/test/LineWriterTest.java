@@ -0,0 +1,135 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import main.CSP;
+import main.Cell;
+import main.LineWriter;
+import main.Reader;
+
+/**
+ * Test for LineWriter class.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class LineWriterTest {
+    Reader reader;
+    ArrayList<Cell> cells;
+    CSP csp;
+
+    /**
+     * Constructor initializing variables.
+     */
+    public LineWriterTest() {
+        reader = new Reader();
+    }
+
+    /**
+     * Tests writing lines, on the calling thread and on a writer thread. 
+     * Writes every puzzle more times than fit in the buffer, and checks if 
+     * every line matches its puzzle.
+     * 
+     * @throws IOException if writing fails.
+     */
+    @Test
+    public void writeTest() throws IOException {
+        ArrayList<String> lines = new ArrayList<String>();
+
+        // Write every puzzle as a line.
+        for (int id = 1; id <= 10; id++) {
+            StringBuilder line = new StringBuilder();
+
+            for (Cell cell : reader.readFile("data/puzzles/classic_" + id + ".txt")) {
+                line.append(cell.getVal());
+            }
+            lines.add(line.toString());
+        }
+
+        // Queue of 0 puzzles means writing on the calling thread.
+        for (int capacity : new int[] {0, 16}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            LineWriter writer = capacity == 0 ? new LineWriter(out) : new LineWriter(out, capacity);
+
+            for (int k = 0; k < 1000; k++) {
+                cells = reader.readFile("data/puzzles/classic_" + (k % 10 + 1) + ".txt");
+                writer.write(new CSP("classic", "1", cells));
+            }
+            writer.close();
+
+            String[] written = out.toString().split("\n");
+
+            assertEquals(1000, written.length);
+
+            for (int k = 0; k < 1000; k++) {
+                assertEquals(lines.get(k % 10), written[k]);
+            }
+        }
+    }
+
+    /**
+     * Tests lines of larger boards. Writes a 16x16 and a 25x25 puzzle as 
+     * lines, and checks if values from 10 are written as letters and if 
+     * reading the lines back gives the same puzzles.
+     * 
+     * @param dir temporary folder for the file.
+     * @throws IOException if writing fails.
+     */
+    @Test
+    public void largeBoardTest(@TempDir Path dir) throws IOException {
+        ArrayList<CSP> written = new ArrayList<CSP>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Write both larger sizes.
+        try (LineWriter writer = new LineWriter(out)) {
+            for (int side : new int[] {16, 25}) {
+                csp = new CSP("classic", "1", reader.readFile("data/large/classic_" + side + "x" + side + ".txt"));
+                writer.write(csp);
+                written.add(csp);
+            }
+        }
+
+        String[] lines = out.toString().split("\n");
+
+        assertEquals(256, lines[0].length());
+        assertEquals(625, lines[1].length());
+        assertTrue(lines[0].contains("G"));
+        assertTrue(lines[1].contains("P"));
+
+        Path file = dir.resolve("large.txt");
+        List<CSP> puzzles;
+
+        Files.write(file, out.toByteArray());
+
+        try (Stream<CSP> stream = reader.streamLines(file.toString())) {
+            puzzles = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(2, puzzles.size());
+
+        // Both puzzles read back unchanged.
+        for (int k = 0; k < 2; k++) {
+            CSP read = puzzles.get(k);
+
+            assertEquals(written.get(k).getSide(), read.getSide());
+
+            for (int i = 0; i < read.getCells().size(); i++) {
+                assertEquals(written.get(k).getCellAt(i).getVal(), read.getCellAt(i).getVal());
+                assertEquals(written.get(k).getCellAt(i).getDomain(), read.getCellAt(i).getDomain());
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import main.CSP;
+import main.Cell;
+import main.PackedReader;
+import main.PackedWriter;
+import main.Reader;
+
+/**
+ * Test for the packed binary format, with PackedWriter and PackedReader.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class PackedTest {
+    Reader reader;
+    ArrayList<Cell> cells;
+
+    /**
+     * Constructor initializing variables.
+     */
+    public PackedTest() {
+        reader = new Reader();
+    }
+
+    /**
+     * Tests writing and reading back packed puzzles. Writes more puzzles 
+     * than fit in a block, and checks puzzles read by index and streamed.
+     * 
+     * @param dir temporary folder for the file.
+     * @throws IOException if the file can't be written or read.
+     */
+    @Test
+    public void roundTripTest(@TempDir Path dir) throws IOException {
+        String file = dir.resolve("classic.pack").toString();
+        int count = 2000;
+
+        // Write every puzzle in turn.
+        try (PackedWriter writer = new PackedWriter(file, 81, 9)) {
+            for (int k = 0; k < count; k++) {
+                cells = reader.readFile("data/puzzles/classic_" + (k % 10 + 1) + ".txt");
+                writer.write(new CSP("classic", "1", cells));
+            }
+        }
+
+        assertEquals(16 + 41 * count, Files.size(Path.of(file)));
+
+        try (PackedReader packed = new PackedReader(file)) {
+            assertEquals(count, packed.size());
+
+            CSP csp = packed.read(1237);
+            cells = reader.readFile("data/puzzles/classic_8.txt");
+
+            assertEquals("1237", csp.getId());
+
+            for (int i = 0; i < 81; i++) {
+                assertEquals(cells.get(i).getVal(), csp.getCellAt(i).getVal());
+            }
+
+            List<CSP> puzzles = packed.stream().collect(Collectors.toList());
+
+            assertEquals(count, puzzles.size());
+
+            // Check every puzzle of one round.
+            for (int k = count - 10; k < count; k++) {
+                cells = reader.readFile("data/puzzles/classic_" + (k % 10 + 1) + ".txt");
+
+                for (int i = 0; i < 81; i++) {
+                    assertEquals(cells.get(i).getVal(), puzzles.get(k).getCellAt(i).getVal());
+                }
+            }
+            assertEquals(9, puzzles.get(0).getCellAt(1).getDomainSize());
+        }
+    }
+
+    /**
+     * Tests packing a larger board, with the record size taken from the 
+     * first puzzle. Writes a 25x25 puzzle, and checks the size of the file 
+     * and the puzzle read back.
+     * 
+     * @param dir temporary folder for the file.
+     * @throws IOException if the file can't be written or read.
+     */
+    @Test
+    public void largeBoardTest(@TempDir Path dir) throws IOException {
+        String file = dir.resolve("large.pack").toString();
+        CSP csp = new CSP("classic", "1", reader.readFile("data/large/classic_25x25.txt"));
+
+        try (PackedWriter writer = new PackedWriter(file)) {
+            writer.write(csp);
+            writer.write(csp);
+        }
+
+        // 5 bits for each of 625 cells.
+        assertEquals(16 + 2 * 391, Files.size(Path.of(file)));
+
+        try (PackedReader packed = new PackedReader(file)) {
+            CSP read = packed.read(1);
+
+            assertEquals(25, read.getSide());
+
+            for (int i = 0; i < 625; i++) {
+                assertEquals(csp.getCellAt(i).getVal(), read.getCellAt(i).getVal());
+                assertEquals(csp.getCellAt(i).getDomain(), read.getCellAt(i).getDomain());
+            }
+        }
+    }
+
+    /**
+     * Tests reading a record with a value larger than the side. Sets the 
+     * first cell of a 9x9 record to 15, and checks if the puzzle is refused 
+     * when read by index and when streamed.
+     * 
+     * @param dir temporary folder for the file.
+     * @throws IOException if the file can't be written.
+     */
+    @Test
+    public void corruptValueTest(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("corrupt.pack");
+
+        try (PackedWriter writer = new PackedWriter(file.toString())) {
+            writer.write(reader.readPuzzle("data/puzzles/classic_1.txt", "classic", "1"));
+        }
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[16] |= 0x0F;
+        Files.write(file, bytes);
+
+        try (PackedReader packed = new PackedReader(file.toString())) {
+            assertThrows(IOException.class, () -> packed.read(0));
+            assertThrows(UncheckedIOException.class, () -> packed.stream().collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Tests that a text puzzle is not read as a packed file.
+     */
+    @Test
+    public void notPackedTest() {
+        assertThrows(IOException.class, () -> new PackedReader("data/puzzles/classic_1.txt"));
+    }
+}
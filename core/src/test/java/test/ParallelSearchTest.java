@@ -0,0 +1,74 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import main.CSP;
+import main.Cell;
+import main.ParallelSearch;
+import main.Reader;
+import main.Solver;
+
+/**
+ * Test for ParallelSearch class.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class ParallelSearchTest {
+    Reader reader;
+    ArrayList<Cell> cells;
+    CSP csp;
+    ForkJoinPool pool;
+
+    /**
+     * Constructor initializing variables.
+     */
+    public ParallelSearchTest() {
+        reader = new Reader();
+        pool = new ForkJoinPool(4);
+    }
+
+    /**
+     * Tests splitting the search. Solves every puzzle with plain DFS below 
+     * two split levels, and checks if every cell matches the known solution.
+     */
+    @Test
+    public void solveTest() {
+        ParallelSearch search = new ParallelSearch(pool, Solver::new, false, false, 2);
+
+        // For every puzzle in the data folder.
+        for (int id = 1; id <= 10; id++) {
+            ArrayList<Cell> solution = reader.readFile("data/solutions/classic_" + id + "-sol.txt");
+            cells = reader.readFile("data/puzzles/classic_" + id + ".txt");
+            csp = new CSP("classic", String.valueOf(id), cells);
+
+            assertEquals(cells, search.solve(csp));
+            assertTrue(search.getStats().getSolves() > 0);
+
+            for (int i = 0; i < 81; i++) {
+                assertEquals(solution.get(i).getVal(), cells.get(i).getVal());
+            }
+        }
+    }
+
+    /**
+     * Tests that a puzzle with two equal values in a row has no solution.
+     */
+    @Test
+    public void noSolutionTest() {
+        ParallelSearch search = new ParallelSearch(pool, Solver::new, false, true, 2);
+
+        cells = reader.readFile("data/puzzles/classic_1.txt");
+        cells.set(1, new Cell(7, 0, 1));
+        csp = new CSP("classic", "1", cells);
+
+        assertNull(search.solve(csp));
+    }
+}
@@ -0,0 +1,90 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import main.CSP;
+import main.Cell;
+import main.Portfolio;
+import main.Reader;
+import main.Solver;
+
+/**
+ * Test for Portfolio class.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class PortfolioTest {
+    Reader reader;
+    ArrayList<Cell> cells;
+    CSP csp;
+
+    /**
+     * Constructor initializing variables.
+     */
+    public PortfolioTest() {
+        reader = new Reader();
+    }
+
+    /**
+     * Tests racing configurations. Solves every puzzle, and checks if every 
+     * cell matches the known solution and the original puzzle was filled in.
+     * 
+     * @throws InterruptedException if interrupted while waiting for a winner.
+     */
+    @Test
+    public void solveTest() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        Portfolio portfolio = new Portfolio(pool);
+
+        portfolio.add(Solver::new, false, false);
+        portfolio.add(Solver::new, true, false);
+        portfolio.add(() -> {
+            Solver solver = new Solver();
+            solver.setBackend(Solver.Backend.DLX);
+            return solver;
+        }, false, false);
+
+        // For every puzzle in the data folder.
+        for (int id = 1; id <= 10; id++) {
+            ArrayList<Cell> solution = reader.readFile("data/solutions/classic_" + id + "-sol.txt");
+            cells = reader.readFile("data/puzzles/classic_" + id + ".txt");
+            csp = new CSP("classic", String.valueOf(id), cells);
+
+            assertEquals(cells, portfolio.solve(csp));
+            assertNotEquals(-1, portfolio.getWinner());
+
+            for (int i = 0; i < 81; i++) {
+                assertEquals(solution.get(i).getVal(), cells.get(i).getVal());
+            }
+        }
+        pool.shutdown();
+    }
+
+    /**
+     * Tests that a cancelled solver gives up, with both backends.
+     */
+    @Test
+    public void cancelTest() {
+        // For both backends.
+        for (Solver.Backend backend : Solver.Backend.values()) {
+            Solver solver = new Solver();
+            solver.setBackend(backend);
+            solver.cancel();
+
+            cells = reader.readFile("data/puzzles/classic_1.txt");
+            csp = new CSP("classic", "1", cells);
+
+            assertNull(solver.solve(csp, false, false));
+            assertEquals(0, cells.get(1).getVal());
+        }
+    }
+}
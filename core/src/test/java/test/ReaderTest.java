@@ -0,0 +1,203 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import main.CSP;
+import main.Cell;
+import main.Layout;
+import main.Reader;
+import main.Solver;
+
+/**
+ * Test for Reader class.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class ReaderTest {
+    Reader reader;
+    ArrayList<Cell> cells;
+
+    /**
+     * Constructor initializing variables.
+     */
+    public ReaderTest() {
+        reader = new Reader();
+    }
+
+    /**
+     * Tests readFile funciton. Reads from a file, and checks if values were 
+     * saved correctly.
+     */
+    @Test
+    public void readFileTest() {
+        cells = reader.readFile("data/puzzles/classic_1.txt");
+
+        assertEquals(7, cells.get(0).getVal());
+        assertEquals(0, cells.get(3).getVal());
+        assertEquals(7, cells.get(77).getVal());
+    }
+
+    /**
+     * Tests reading a killer puzzle. Checks if every cage is read with its 
+     * cells and sum, after the classic constraints, over the cells of the 
+     * puzzle, and if a copy of the puzzle keeps the sums.
+     */
+    @Test
+    public void readKillerTest() {
+        CSP csp = reader.readPuzzle("data/puzzles/killer_1.txt", "killer", "1");
+
+        assertEquals(27 + 26, csp.getConstraints().size());
+        assertTrue(csp.hasSums());
+        assertEquals("alldif", csp.getConstraintAt(26).getType());
+        assertEquals("sum", csp.getConstraintAt(27).getType());
+        assertEquals(16, csp.getConstraintAt(27).getSum());
+        assertEquals(4, csp.getConstraintAt(27).getCellsSize());
+        assertEquals(9, csp.getConstraintAt(27).getCellAt(2).getIndex());
+        assertSame(csp.getCellAt(9), csp.getConstraintAt(27).getCellAt(2));
+        assertEquals(9, csp.getCellAt(0).getDomainSize());
+        assertEquals(16, csp.copy().getConstraintAt(27).getSum());
+        assertEquals(81, reader.readFile("data/puzzles/killer_1.txt").size());
+    }
+
+    /**
+     * Tests reading a triple puzzle. Checks if the grids are read onto 
+     * shared cells of one puzzle, and if grids that don't agree on a shared 
+     * cell are rejected.
+     * 
+     * @param dir temporary folder for the file.
+     * @throws IOException if the file can't be written.
+     */
+    @Test
+    public void readTripleTest(@TempDir Path dir) throws IOException {
+        CSP csp = reader.readPuzzle("data/puzzles/triple_1.txt", "triple", "1");
+        Layout layout = csp.getLayout();
+
+        assertEquals(225, csp.getCells().size());
+        assertEquals(3 * 27 - 2, csp.getConstraints().size());
+        assertEquals(8, csp.getCellAt(layout.getIndex(0, 0, 3)).getVal());
+        assertEquals(csp.getCellAt(layout.getIndex(0, 6, 6)), csp.getCellAt(layout.getIndex(1, 0, 0)));
+        assertEquals(225, reader.readFile("data/puzzles/triple_1.txt").size());
+
+        List<String> lines = Files.readAllLines(Path.of("data/puzzles/triple_1.txt"));
+        Path file = dir.resolve("triple_2.txt");
+
+        // The second grid no longer agrees with the first on a shared cell.
+        lines.set(12, lines.get(12).replaceFirst("^1", "2"));
+        Files.write(file, lines);
+
+        assertEquals(null, reader.readPuzzle(file.toString(), "triple", "2"));
+    }
+
+    /**
+     * Tests streamLines function. Writes a puzzle in both blank formats, 
+     * with a malformed line holding a 0xFF byte and a blank line between 
+     * them, and checks if both puzzles are read and can be solved.
+     * 
+     * @param dir temporary folder for the file.
+     * @throws IOException if the file can't be written.
+     */
+    @Test
+    public void streamLinesTest(@TempDir Path dir) throws IOException {
+        ArrayList<Cell> solution = reader.readFile("data/solutions/classic_1-sol.txt");
+        StringBuilder zeros = new StringBuilder();
+
+        cells = reader.readFile("data/puzzles/classic_1.txt");
+
+        // Write the puzzle on one line.
+        for (Cell cell : cells) {
+            zeros.append(cell.getVal());
+        }
+
+        String dots = zeros.toString().replace('0', '.');
+        Path file = dir.resolve("classic.txt");
+
+        Files.write(file, (zeros + "\r\n1\u00ff3\n\n" + dots + "\n").getBytes(StandardCharsets.ISO_8859_1));
+
+        List<CSP> puzzles;
+
+        try (Stream<CSP> stream = reader.streamLines(file.toString())) {
+            puzzles = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(2, puzzles.size());
+        assertEquals("1", puzzles.get(0).getId());
+        assertEquals("4", puzzles.get(1).getId());
+
+        // Solve both puzzles.
+        for (CSP csp : puzzles) {
+            assertEquals(7, csp.getCellAt(0).getVal());
+            assertEquals(0, csp.getCellAt(3).getVal());
+
+            new Solver().solve(csp, false, true);
+
+            for (int i = 0; i < 81; i++) {
+                assertEquals(solution.get(i).getVal(), csp.getCellAt(i).getVal());
+            }
+        }
+    }
+
+    /**
+     * Tests mapLines function. Writes every puzzle of the data folder on a 
+     * line, maps the file with a few and with more slices than lines, and 
+     * checks if every puzzle is read once, from its own line.
+     * 
+     * @param dir temporary folder for the file.
+     * @throws IOException if the file can't be written.
+     */
+    @Test
+    public void mapLinesTest(@TempDir Path dir) throws IOException {
+        StringBuilder text = new StringBuilder();
+
+        // Write every puzzle on a line of 82 bytes.
+        for (int id = 1; id <= 10; id++) {
+            for (Cell cell : reader.readFile("data/puzzles/classic_" + id + ".txt")) {
+                text.append(cell.getVal());
+            }
+            text.append('\n');
+        }
+
+        Path file = dir.resolve("classic.txt");
+        Files.writeString(file, text);
+
+        for (int slices : new int[] {3, 25}) {
+            List<Stream<CSP>> streams = reader.mapLines(file.toString(), slices);
+            int count = 0;
+            long last = -1;
+
+            assertEquals(slices, streams.size());
+
+            // Read the slices in order.
+            for (Stream<CSP> stream : streams) {
+                for (CSP csp : stream.collect(Collectors.toList())) {
+                    long offset = Long.parseLong(csp.getId());
+                    cells = reader.readFile("data/puzzles/classic_" + (offset / 82 + 1) + ".txt");
+
+                    assertEquals(0, offset % 82);
+                    assertTrue(offset > last);
+
+                    for (int i = 0; i < 81; i++) {
+                        assertEquals(cells.get(i).getVal(), csp.getCellAt(i).getVal());
+                    }
+                    last = offset;
+                    count++;
+                }
+            }
+            assertEquals(10, count);
+        }
+    }
+}
@@ -0,0 +1,505 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+
+import org.junit.jupiter.api.Test;
+
+import main.AC2001;
+import main.AC3;
+import main.AllDiff;
+import main.CSP;
+import main.Cell;
+import main.Constraint;
+import main.Domain;
+import main.Reader;
+import main.SolveStats;
+import main.Solver;
+import main.StatsCollector;
+import main.Sum;
+
+/**
+ * Test for Solver class.
+ * 
+ * @author  Max Turkot
+ * @version 18/10/2026
+ */
+public class SolverTest {
+    Reader reader;
+    ArrayList<Cell> cells;
+    CSP csp;
+    Solver solver;
+    AC3 ac3;
+
+    /**
+     * Constructor initializing variables.
+     */
+    public SolverTest() {
+        reader = new Reader();
+        solver = new Solver();
+        ac3 = new AC3();
+    }
+
+    /**
+     * Tests backtrackSearch function. Creates a csp, and runs search.
+     * Checks if some values were assigned correctly to cells.
+     */
+    @Test
+    public void backtrackSearchTest() {
+        cells = reader.readFile("data/puzzles/classic_1.txt");
+        csp = new CSP("classic", "1", cells);
+
+        solver.solve(csp, false, false);
+
+        assertEquals(7, cells.get(0).getVal());
+        assertEquals(3, cells.get(1).getVal());
+        assertEquals(8, cells.get(2).getVal());
+        assertEquals(4, cells.get(3).getVal());
+        assertEquals(1, cells.get(4).getVal());
+        assertEquals(5, cells.get(5).getVal());
+        assertEquals(2, cells.get(6).getVal());
+        assertEquals(6, cells.get(7).getVal());
+        assertEquals(9, cells.get(8).getVal());
+        assertEquals(6, cells.get(9).getVal());
+        assertEquals(5, cells.get(10).getVal());
+        assertEquals(1, cells.get(11).getVal());
+        assertEquals(9, cells.get(12).getVal());
+        assertEquals(2, cells.get(13).getVal());
+        assertEquals(8, cells.get(14).getVal());
+        assertEquals(4, cells.get(15).getVal());
+        assertEquals(7, cells.get(16).getVal());
+        assertEquals(3, cells.get(17).getVal());
+        assertEquals(8, cells.get(27).getVal());
+        assertEquals(7, cells.get(38).getVal());
+        assertEquals(1, cells.get(45).getVal());
+        assertEquals(1, cells.get(55).getVal());
+        assertEquals(7, cells.get(77).getVal());
+        assertEquals(4, cells.get(80).getVal());
+    }
+
+    /**
+     * Tests revise function. Checks if pairs of cells are compaired and if 
+     * program indicates revision.
+     */
+    @Test
+    public void reviseTest() {
+        Cell cell0 = new Cell(0, 0, 0);
+        Cell cell1 = new Cell(1, 0, 0);
+
+        Cell[] pair1 = {cell0, cell1};
+        Cell[] pair2 = {cell1, cell0};
+
+        assertTrue(ac3.revise(pair1));
+        assertFalse(ac3.revise(pair2));
+    }
+
+    /**
+     * Tests getneighbors function. Checks if for a given cell, 
+     * list contains correct cells with values.
+     */
+    @Test
+    public void getNeighborsTest() {
+        cells = reader.readFile("data/solutions/classic_1-sol.txt");
+        csp = new CSP("classic", "1", cells);
+
+        LinkedList<Cell> neighbors = ac3.getNeighbors(csp, csp.getCells().get(0));
+        
+        assertEquals(3, neighbors.get(0).getVal());
+        assertEquals(8, neighbors.get(1).getVal());
+        assertEquals(1, neighbors.get(12).getVal());
+        assertEquals(3, neighbors.get(16).getVal());
+        assertEquals(5, neighbors.get(19).getVal());
+        assertEquals(9, neighbors.get(23).getVal());
+    }
+
+    /**
+     * Tests search with the MRV heuristic. Solves a puzzle in every mode 
+     * and checks if every cell matches the known solution.
+     */
+    @Test
+    public void mrvSearchTest() {
+        ArrayList<Cell> solution = reader.readFile("data/solutions/classic_1-sol.txt");
+        solver.setMrv(true);
+
+        // Plain, preprocessing and forward checking modes.
+        for (int mode = 0; mode < 3; mode++) {
+            cells = reader.readFile("data/puzzles/classic_1.txt");
+            csp = new CSP("classic", "1", cells);
+
+            solver.solve(csp, mode == 1, mode == 2);
+
+            for (int i = 0; i < 81; i++) {
+                assertEquals(solution.get(i).getVal(), cells.get(i).getVal());
+            }
+        }
+    }
+
+    /**
+     * Tests search with least constraining value ordering. Solves a puzzle 
+     * with and without MRV and checks if every cell matches the known 
+     * solution.
+     */
+    @Test
+    public void lcvSearchTest() {
+        ArrayList<Cell> solution = reader.readFile("data/solutions/classic_1-sol.txt");
+        solver.setValueOrder(Solver.ValueOrder.LCV);
+
+        // Static and MRV variable ordering.
+        for (int mode = 0; mode < 2; mode++) {
+            cells = reader.readFile("data/puzzles/classic_1.txt");
+            csp = new CSP("classic", "1", cells);
+
+            solver.setMrv(mode == 1);
+            solver.solve(csp, false, true);
+
+            for (int i = 0; i < 81; i++) {
+                assertEquals(solution.get(i).getVal(), cells.get(i).getVal());
+            }
+        }
+    }
+
+    /**
+     * Tests the residual support engine. Checks if it prunes the same 
+     * domains as AC-3 and if forward checking with it finds the solution.
+     */
+    @Test
+    public void ac2001Test() {
+        ArrayList<Cell> solution = reader.readFile("data/solutions/classic_1-sol.txt");
+        ArrayList<Cell> other = reader.readFile("data/puzzles/classic_1.txt");
+        cells = reader.readFile("data/puzzles/classic_1.txt");
+        csp = new CSP("classic", "1", cells);
+
+        assertTrue(new AC2001().ac3(csp));
+        assertTrue(ac3.ac3(new CSP("classic", "1", other)));
+
+        for (int i = 0; i < 81; i++) {
+            assertEquals(other.get(i).getDomain(), cells.get(i).getDomain());
+        }
+
+        cells = reader.readFile("data/puzzles/classic_1.txt");
+        csp = new CSP("classic", "1", cells);
+
+        solver.setPropagation(Solver.Propagation.AC2001);
+        solver.solve(csp, true, true);
+
+        for (int i = 0; i < 81; i++) {
+            assertEquals(solution.get(i).getVal(), cells.get(i).getVal());
+        }
+    }
+
+    /**
+     * Tests the all-different propagator. Forces a hidden single in a row, 
+     * checks if a cell that is the only place for two values fails, then 
+     * checks if search with the propagator finds the solution.
+     */
+    @Test
+    public void allDiffTest() {
+        ArrayList<Cell> solution = reader.readFile("data/solutions/classic_1-sol.txt");
+        cells = reader.readFile("data/puzzles/classic_1.txt");
+        csp = new CSP("classic", "1", cells);
+
+        // Leave value 9 only in the last cell of the first row.
+        for (int i = 1; i < 8; i++) {
+            cells.get(i).domainRemove(9);
+        }
+
+        assertTrue(new AllDiff().propagate(csp.getConstraintAt(0)));
+        assertEquals(1, cells.get(8).getDomainSize());
+        assertTrue(cells.get(8).domainContains(9));
+
+        cells = reader.readFile("data/puzzles/classic_1.txt");
+        csp = new CSP("classic", "1", cells);
+        cells.get(1).setDomain(Domain.of(3) | Domain.of(4));
+
+        // Leave values 3 and 4 only in the second cell of the first row.
+        for (int i : new int[] {2, 3, 7, 8}) {
+            cells.get(i).domainRemove(3);
+            cells.get(i).domainRemove(4);
+        }
+
+        assertFalse(new AllDiff().propagate(csp.getConstraintAt(0)));
+
+        cells = reader.readFile("data/puzzles/classic_1.txt");
+        csp = new CSP("classic", "1", cells);
+
+        solver.setAllDiff(true);
+        solver.setMrv(true);
+        solver.solve(csp, true, true);
+
+        for (int i = 0; i < 81; i++) {
+            assertEquals(solution.get(i).getVal(), cells.get(i).getVal());
+        }
+    }
+
+    /**
+     * Tests per-solve metrics. Checks counters of a forward checking solve, 
+     * if a collector sums the metrics of two solves, and if preprocessing 
+     * adds no propagation to forward checking.
+     */
+    @Test
+    public void statsTest() {
+        StatsCollector collector = new StatsCollector();
+
+        // Solve the same puzzle twice.
+        for (int run = 0; run < 2; run++) {
+            cells = reader.readFile("data/puzzles/classic_1.txt");
+            csp = new CSP("classic", "1", cells);
+            solver.solve(csp, false, true);
+
+            SolveStats stats = solver.getStats();
+
+            assertTrue(stats.getNodes() > 0);
+            assertTrue(stats.getCalls() > stats.getMaxDepth());
+            assertTrue(stats.getPropagations() > 0);
+            assertTrue(stats.getWallTime() > 0);
+            collector.add(stats);
+        }
+
+        assertEquals(2, collector.getSolves());
+        assertEquals(2 * solver.getStats().getNodes(), collector.getNodes());
+        assertEquals(solver.getStats().getMaxDepth(), collector.getMaxDepth());
+
+        // Preprocessing before forward checking runs AC-3 once, not twice.
+        long propagations = solver.getStats().getPropagations();
+        csp = new CSP("classic", "1", reader.readFile("data/puzzles/classic_1.txt"));
+        solver.solve(csp, true, true);
+
+        assertEquals(propagations, solver.getStats().getPropagations());
+    }
+
+    /**
+     * Tests solving larger boards. Solves the 16x16 puzzle with MRV, and 
+     * the 16x16 and 25x25 puzzles with the all-different propagator and with 
+     * Dancing Links, and checks if every constraint holds every value once 
+     * and the given values are kept.
+     */
+    @Test
+    public void largeBoardTest() {
+        // Both larger sizes, with MRV, all-different and Dancing Links.
+        for (int side : new int[] {16, 25}) {
+            for (int config = side == 16 ? 0 : 1; config < 3; config++) {
+                String path = "data/large/classic_" + side + "x" + side + ".txt";
+                ArrayList<Cell> givens = reader.readFile(path);
+
+                cells = reader.readFile(path);
+                csp = new CSP("classic", "1", cells);
+                solver = new Solver();
+                solver.setMrv(true);
+                solver.setAllDiff(config == 1);
+
+                if (config == 2) {
+                    solver.setBackend(Solver.Backend.DLX);
+                }
+
+                assertTrue(solver.solve(csp, false, true) != null);
+
+                // Every row, col and square holds every value.
+                for (Constraint constraint : csp.getConstraints()) {
+                    int seen = 0;
+
+                    for (int j = 0; j < constraint.getCellsSize(); j++) {
+                        seen |= Domain.of(constraint.getCellValAt(j));
+                    }
+                    assertEquals(Domain.full(side), seen);
+                }
+
+                // Given values are kept.
+                for (int i = 0; i < givens.size(); i++) {
+                    if (givens.get(i).getVal() != 0) {
+                        assertEquals(givens.get(i).getVal(), cells.get(i).getVal());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests the sum propagator. Puts cages on an empty puzzle, and checks if 
+     * cells keep only values of sets that reach the sum, and if assignments 
+     * that can't reach it are refused.
+     */
+    @Test
+    public void sumTest() {
+        ArrayList<Constraint> cages = new ArrayList<Constraint>();
+
+        cells = new ArrayList<Cell>();
+
+        for (int i = 0; i < 81; i++) {
+            cells.add(new Cell(0, i / 9, i % 9));
+        }
+
+        // Cages of two cells summing to 3, and three cells summing to 24.
+        cages.add(new Constraint("sum", 3));
+        cages.get(0).cellsAdd(cells.get(0));
+        cages.get(0).cellsAdd(cells.get(1));
+        cages.add(new Constraint("sum", 24));
+        cages.get(1).cellsAdd(cells.get(9));
+        cages.get(1).cellsAdd(cells.get(10));
+        cages.get(1).cellsAdd(cells.get(11));
+
+        csp = new CSP("killer", "1", cells, cages);
+        Sum sum = new Sum();
+
+        assertTrue(csp.hasSums());
+        assertTrue(sum.allows(cages.get(0), cells.get(0), 2, 9));
+        assertFalse(sum.allows(cages.get(0), cells.get(0), 3, 9));
+        assertTrue(sum.propagate(cages.get(0), 9));
+        assertTrue(sum.propagate(cages.get(1), 9));
+        assertEquals(Domain.of(1) | Domain.of(2), cells.get(1).getDomain());
+        assertEquals(Domain.of(7) | Domain.of(8) | Domain.of(9), cells.get(10).getDomain());
+
+        cells.get(0).domainCollapse(2);
+
+        assertTrue(sum.propagate(cages.get(0), 9));
+        assertEquals(Domain.of(1), cells.get(1).getDomain());
+
+        cells.get(0).domainCollapse(1);
+
+        assertFalse(sum.propagate(cages.get(0), 9));
+    }
+
+    /**
+     * Tests solving killer puzzles. Checks if every killer puzzle has 
+     * exactly one solution, solves it in every mode, and with Dancing Links, 
+     * which falls back to the backtracking search, and checks if every 
+     * constraint holds different values and every cage adds up to its sum.
+     */
+    @Test
+    public void killerTest() {
+        // Every killer puzzle.
+        for (int id = 1; id <= 3; id++) {
+            csp = reader.readPuzzle("data/puzzles/killer_" + id + ".txt", "killer", String.valueOf(id));
+            solver = new Solver();
+            solver.setMrv(true);
+            solver.setAllDiff(true);
+
+            assertEquals(1, solver.countSolutions(csp, false, true, 2));
+
+            // Plain, preprocessing, forward checking, all-different and
+            // Dancing Links.
+            for (int mode = 0; mode < 5; mode++) {
+                csp = reader.readPuzzle("data/puzzles/killer_" + id + ".txt", "killer", String.valueOf(id));
+                solver = new Solver();
+                solver.setMrv(mode == 3);
+                solver.setAllDiff(mode == 3);
+
+                if (mode == 4) {
+                    solver.setBackend(Solver.Backend.DLX);
+                }
+
+                assertTrue(solver.solve(csp, mode == 1, mode >= 2) != null);
+
+                // Every constraint holds different values, cages add up.
+                for (Constraint constraint : csp.getConstraints()) {
+                    int seen = 0;
+                    int total = 0;
+
+                    for (int j = 0; j < constraint.getCellsSize(); j++) {
+                        seen |= Domain.of(constraint.getCellValAt(j));
+                        total += constraint.getCellValAt(j);
+                    }
+                    assertEquals(constraint.getCellsSize(), Domain.size(seen));
+
+                    if (constraint.getType().equals("sum")) {
+                        assertEquals(constraint.getSum(), total);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests solving triple and samurai puzzles. Solves each in every mode, 
+     * and checks if every row, col and square of every grid holds different 
+     * values.
+     */
+    @Test
+    public void multiGridTest() {
+        // Both multi-grid types.
+        for (String type : new String[] {"triple", "samurai"}) {
+            // Forward checking, all-different and Dancing Links.
+            for (int mode = 0; mode < 3; mode++) {
+                csp = reader.readPuzzle("data/puzzles/" + type + "_1.txt", type, "1");
+                solver = new Solver();
+                solver.setMrv(mode == 1);
+                solver.setAllDiff(mode == 1);
+
+                if (mode == 2) {
+                    solver.setBackend(Solver.Backend.DLX);
+                }
+
+                assertTrue(solver.solve(csp, false, mode == 0) != null);
+
+                // Every constraint holds different values.
+                for (Constraint constraint : csp.getConstraints()) {
+                    int seen = 0;
+
+                    for (int j = 0; j < constraint.getCellsSize(); j++) {
+                        seen |= Domain.of(constraint.getCellValAt(j));
+                    }
+                    assertEquals(9, Domain.size(seen));
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests countSolutions function. Counts the solutions of a unique 
+     * puzzle and of an empty board in every mode, checks if the search 
+     * stops at the limit, and if the cells hold a solution afterwards.
+     */
+    @Test
+    public void countSolutionsTest() {
+        ArrayList<Cell> solution = reader.readFile("data/solutions/classic_1-sol.txt");
+
+        // Plain, forward checking, all-different and Dancing Links.
+        for (int mode = 0; mode < 4; mode++) {
+            solver = new Solver();
+            solver.setMrv(mode == 2);
+            solver.setAllDiff(mode == 2);
+
+            if (mode == 3) {
+                solver.setBackend(Solver.Backend.DLX);
+            }
+
+            csp = reader.readPuzzle("data/puzzles/classic_1.txt", "classic", "1");
+
+            assertEquals(1, solver.countSolutions(csp, false, mode >= 1, 2));
+
+            // The only solution is left in the cells.
+            for (int i = 0; i < 81; i++) {
+                assertEquals(solution.get(i).getVal(), csp.getCellAt(i).getVal());
+            }
+
+            cells = new ArrayList<Cell>();
+
+            // An empty board.
+            for (int i = 0; i < 81; i++) {
+                cells.add(new Cell(0, i / 9, i % 9));
+            }
+            csp = new CSP("classic", "0", cells);
+
+            assertEquals(5, solver.countSolutions(csp, false, mode >= 1, 5));
+            assertEquals(5, solver.getSolutions());
+
+            // Every constraint of the first solution holds different values.
+            for (Constraint constraint : csp.getConstraints()) {
+                int seen = 0;
+
+                for (int j = 0; j < constraint.getCellsSize(); j++) {
+                    seen |= Domain.of(constraint.getCellValAt(j));
+                }
+                assertEquals(9, Domain.size(seen));
+            }
+
+            // Solving stops at the first solution again.
+            csp = reader.readPuzzle("data/puzzles/classic_2.txt", "classic", "2");
+            assertTrue(solver.solve(csp, false, mode >= 1) != null);
+            assertEquals(1, solver.getSolutions());
+        }
+    }
+}